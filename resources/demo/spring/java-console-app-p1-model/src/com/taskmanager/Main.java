@@ -1,18 +1,31 @@
 package com.taskmanager;
 
+import com.taskmanager.cache.TaskCache;
 import com.taskmanager.config.ConfigLoader;
 import com.taskmanager.config.ConnectionManager;
 import com.taskmanager.config.DatabaseConfig;
+import com.taskmanager.config.TransactionManager;
 import com.taskmanager.controller.TaskController;
+import com.taskmanager.metrics.MetricsRegistry;
+import com.taskmanager.metrics.PrometheusExporter;
+import com.taskmanager.repository.CachingTaskRepository;
 import com.taskmanager.repository.TaskRepository;
 import com.taskmanager.service.TaskService;
+import com.taskmanager.ui.CommandEngine;
 import com.taskmanager.ui.ConsoleUI;
 import com.taskmanager.ui.InputHandler;
+import com.taskmanager.ui.LoadReport;
 import com.taskmanager.ui.OutputRenderer;
 import com.taskmanager.validation.InputValidator;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Scanner;
 
 /**
@@ -38,6 +51,7 @@ import java.util.Scanner;
  *
  * CROSS-CUTTING CONCERNS (ready for AOP):
  * - Logging: Log4j2 in all layers
+ * - Metrics: MetricsRegistry timers/counters, exported by PrometheusExporter
  * - Validation: InputValidator
  * - Exception Handling: BusinessException hierarchy
  * - Configuration: External properties file
@@ -71,8 +85,8 @@ public class Main {
             // ============================================
             // LAYER 2: INFRASTRUCTURE
             // ============================================
-            // Create connection manager
-            // In Spring Boot: Auto-configured DataSource
+            // Create connection manager (backed by a connection pool)
+            // In Spring Boot: Auto-configured DataSource (HikariCP)
 
             logger.info("Initializing database connection...");
             ConnectionManager connectionManager = new ConnectionManager(dbConfig);
@@ -100,7 +114,18 @@ public class Main {
             // In Spring Boot: @Repository or JpaRepository
 
             logger.info("Initializing repository layer...");
-            TaskRepository taskRepository = new TaskRepository(connectionManager);
+            int batchSize = configLoader.getIntProperty("db.batch.size", 500);
+            TaskRepository taskRepository;
+            if (configLoader.getBooleanProperty("cache.tasks.enabled", true)) {
+                // Cache in front of the repository
+                // In Spring Boot: @EnableCaching + @Cacheable
+                TaskCache taskCache = new TaskCache(
+                        configLoader.getIntProperty("cache.tasks.maxSize", 1000),
+                        configLoader.getIntProperty("cache.tasks.ttlSeconds", 60));
+                taskRepository = new CachingTaskRepository(connectionManager, batchSize, taskCache);
+            } else {
+                taskRepository = new TaskRepository(connectionManager, batchSize);
+            }
 
             // ============================================
             // LAYER 5: BUSINESS LOGIC
@@ -109,7 +134,10 @@ public class Main {
             // In Spring Boot: @Service
 
             logger.info("Initializing service layer...");
-            TaskService taskService = new TaskService(taskRepository);
+            // In Spring Boot: @Transactional backed by a DataSourceTransactionManager
+            TransactionManager transactionManager = new TransactionManager(connectionManager);
+            TaskService taskService = new TaskService(taskRepository, transactionManager,
+                    configLoader.getBooleanProperty("tx.lockForUpdate", false));
 
             // ============================================
             // LAYER 6: CONTROLLER
@@ -121,28 +149,62 @@ public class Main {
             TaskController taskController = new TaskController(taskService, inputValidator);
 
             // ============================================
-            // LAYER 7: PRESENTATION
+            // MONITORING
             // ============================================
-            // Create UI components
-            // In Spring Boot with REST: Not needed (HTTP handles I/O)
-
-            logger.info("Initializing presentation layer...");
-            Scanner scanner = new Scanner(System.in);
-            InputHandler inputHandler = new InputHandler(scanner, inputValidator);
-            OutputRenderer outputRenderer = new OutputRenderer();
+            // Export repository/service timers, error counters and pool gauges
+            // In Spring Boot: Actuator + micrometer-registry-prometheus
 
-            // Wire everything together in ConsoleUI
-            ConsoleUI consoleUI = new ConsoleUI(taskController, inputHandler, outputRenderer);
+            PrometheusExporter metricsExporter = new PrometheusExporter(MetricsRegistry.getDefault());
+            int metricsPort = configLoader.getIntProperty("metrics.http.port", 0);
+            if (metricsPort > 0) {
+                metricsExporter.startHttpServer(metricsPort);
+            }
+            String metricsFile = configLoader.getProperty("metrics.file", "");
+            if (!metricsFile.isBlank()) {
+                metricsExporter.startFileDump(Path.of(metricsFile),
+                        configLoader.getIntProperty("metrics.file.intervalSeconds", 15));
+            }
 
             // ============================================
-            // RUN APPLICATION
+            // HEADLESS MODE (load driver)
             // ============================================
+            // --headless <file|->: replay a command script concurrently
+            // instead of starting the interactive menu
+
+            if (args.length > 0 && "--headless".equals(args[0])) {
+                logger.info("=== Application initialized successfully (headless) ===");
+                runHeadless(taskController, configLoader, args.length > 1 ? args[1] : "-");
+            } else {
+                // ============================================
+                // LAYER 7: PRESENTATION
+                // ============================================
+                // Create UI components
+                // In Spring Boot with REST: Not needed (HTTP handles I/O)
+
+                logger.info("Initializing presentation layer...");
+                Scanner scanner = new Scanner(System.in);
+                InputHandler inputHandler = new InputHandler(scanner, inputValidator);
+                OutputRenderer outputRenderer = new OutputRenderer();
+
+                // Wire everything together in ConsoleUI
+                ConsoleUI consoleUI = new ConsoleUI(taskController, inputHandler, outputRenderer,
+                        configLoader.getIntProperty("ui.page.size", 50));
 
-            logger.info("=== Application initialized successfully ===");
-            logger.info("Starting user interface...");
+                // ============================================
+                // RUN APPLICATION
+                // ============================================
 
-            consoleUI.run();
+                logger.info("=== Application initialized successfully ===");
+                logger.info("Starting user interface...");
 
+                consoleUI.run();
+            }
+
+            if (taskRepository instanceof CachingTaskRepository caching) {
+                logger.info("Cache statistics: {}", caching.getCache().getStats());
+            }
+            metricsExporter.stop();
+            connectionManager.shutdown();
             logger.info("=== Application shutdown complete ===");
 
         } catch (Exception e) {
@@ -152,4 +214,24 @@ public class Main {
             System.exit(1);
         }
     }
+
+    /**
+     * Run a command script through the CommandEngine and print the load report.
+     *
+     * @param source Path of the script, or "-" for stdin
+     */
+    private static void runHeadless(TaskController taskController, ConfigLoader configLoader, String source)
+            throws IOException, InterruptedException {
+        CommandEngine engine = new CommandEngine(taskController,
+                configLoader.getIntProperty("headless.threads", 16),
+                configLoader.getIntProperty("headless.queueCapacity", 1000));
+
+        logger.info("Reading commands from {}", "-".equals(source) ? "stdin" : source);
+        try (BufferedReader reader = "-".equals(source)
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Path.of(source), StandardCharsets.UTF_8)) {
+            LoadReport report = engine.run(reader);
+            System.out.print(report.format());
+        }
+    }
 }
@@ -0,0 +1,292 @@
+package com.taskmanager.cache;
+
+import com.taskmanager.model.Task;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * Bounded in-process cache of tasks with time-to-live.
+ *
+ * Holds two maps:
+ * - id -> Task: answers findById() without a query
+ * - title -> id: answers existsByTitle(); a title can also be cached as
+ *   known-absent, so the duplicate check for a brand-new title is free
+ *
+ * Both maps are LRU-ordered and capped at maxSize entries; entries older
+ * than the TTL are treated as misses and dropped. A reverse id -> titles
+ * map lets evict(id) drop the task's title entries without scanning the
+ * title index. Tasks are copied on the way in and out because Task is
+ * mutable and callers modify the objects they get back before saving them.
+ *
+ * A read-through load can race with a write: the reader misses, reads the
+ * old row, the writer updates and evicts, then the reader caches the old
+ * row. Every put()/evict() of an id bumps that id's generation, and
+ * putIfCurrent() only caches a loaded task if its generation is unchanged
+ * since the load started. Generations are kept per slot (id hash), so an
+ * unrelated write to the same slot only costs a skipped put.
+ *
+ * In Spring, this is what @Cacheable / @CachePut / @CacheEvict with a
+ * Caffeine cache manager would provide.
+ */
+public class TaskCache {
+    private static final Logger logger = LogManager.getLogger(TaskCache.class);
+
+    // Title index value meaning "no task has this title"
+    private static final long ABSENT = 0L;
+
+    // Number of generation slots (a power of two)
+    private static final int GENERATION_SLOTS = 1024;
+
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final LinkedHashMap<Long, Entry<Task>> byId;
+    private final LinkedHashMap<String, Entry<Long>> byTitle;
+    private final Map<Long, Set<String>> titlesById = new HashMap<>();
+    private final long[] generations = new long[GENERATION_SLOTS];
+
+    private final BiConsumer<Long, Task> onTaskRemoved = (id, task) -> { };
+    private final BiConsumer<String, Long> onTitleRemoved = this::unlinkTitle;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public TaskCache(int maxSize, long ttlSeconds) {
+        this.maxSize = Math.max(1, maxSize);
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.byId = new LinkedHashMap<>(16, 0.75f, true);
+        this.byTitle = new LinkedHashMap<>(16, 0.75f, true);
+        logger.info("TaskCache initialized: maxSize={}, ttl={}s", this.maxSize, ttlSeconds);
+    }
+
+    // ==================== Lookups ====================
+
+    /**
+     * Cached task for the id, or null if not cached (or expired).
+     */
+    public synchronized Task getById(Long id) {
+        Task task = getFresh(byId, id, onTaskRemoved);
+        if (task == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return copy(task);
+    }
+
+    /**
+     * Whether a task with the title exists, or null if unknown (not cached or expired).
+     */
+    public synchronized Boolean titleExists(String title) {
+        Long id = getFresh(byTitle, title, onTitleRemoved);
+        if (id == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return id != ABSENT;
+    }
+
+    // ==================== Updates ====================
+
+    /**
+     * Cache a task written to the database (the committed state).
+     */
+    public synchronized void put(Task task) {
+        if (task.getId() == null) {
+            return;
+        }
+        generations[slot(task.getId())]++;
+        store(task);
+    }
+
+    /**
+     * Current generation of the id; read it before loading the task from
+     * the database and pass it to putIfCurrent().
+     */
+    public synchronized long generation(Long id) {
+        return generations[slot(id)];
+    }
+
+    /**
+     * Cache a task loaded from the database, unless the id was put or
+     * evicted since its generation was read (the load may be stale).
+     *
+     * @return whether the task was cached
+     */
+    public synchronized boolean putIfCurrent(Task task, long generation) {
+        if (task.getId() == null || generations[slot(task.getId())] != generation) {
+            return false;
+        }
+        store(task);
+        return true;
+    }
+
+    /**
+     * Remember that no task has this title.
+     */
+    public synchronized void putTitleAbsent(String title) {
+        putTitle(title, ABSENT);
+    }
+
+    /**
+     * Forget a task and any title index entries that point at it.
+     */
+    public synchronized void evict(Long id) {
+        generations[slot(id)]++;
+        byId.remove(id);
+        Set<String> titles = titlesById.remove(id);
+        if (titles != null) {
+            for (String title : titles) {
+                byTitle.remove(title);
+            }
+        }
+    }
+
+    /**
+     * Forget a title index entry (e.g. when a write with that title failed).
+     */
+    public synchronized void evictTitle(String title) {
+        removeTitle(title);
+    }
+
+    public synchronized void clear() {
+        for (int i = 0; i < GENERATION_SLOTS; i++) {
+            generations[i]++;
+        }
+        byId.clear();
+        byTitle.clear();
+        titlesById.clear();
+    }
+
+    // ==================== Statistics ====================
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public double getHitRate() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : (double) hits.get() / total;
+    }
+
+    public synchronized int size() {
+        return byId.size();
+    }
+
+    public String getStats() {
+        return String.format("TaskCache{size=%d, titles=%d, hits=%d, misses=%d, hitRate=%.1f%%, evictions=%d}",
+                size(), titleIndexSize(), getHitCount(), getMissCount(), getHitRate() * 100, getEvictionCount());
+    }
+
+    private synchronized int titleIndexSize() {
+        return byTitle.size();
+    }
+
+    // ==================== Internals ====================
+
+    private void store(Task task) {
+        Entry<Task> previous = byId.get(task.getId());
+        if (previous != null && !Objects.equals(previous.value.getTitle(), task.getTitle())) {
+            // Title changed: the old title is free now
+            removeTitle(previous.value.getTitle());
+        }
+        putBounded(byId, task.getId(), copy(task), onTaskRemoved);
+        if (task.getTitle() != null) {
+            putTitle(task.getTitle(), task.getId());
+        }
+    }
+
+    private void putTitle(String title, Long id) {
+        Entry<Long> previous = byTitle.get(title);
+        if (previous != null) {
+            unlinkTitle(title, previous.value);
+        }
+        putBounded(byTitle, title, id, onTitleRemoved);
+        if (id != ABSENT) {
+            titlesById.computeIfAbsent(id, k -> new HashSet<>()).add(title);
+        }
+    }
+
+    private void removeTitle(String title) {
+        Entry<Long> removed = byTitle.remove(title);
+        if (removed != null) {
+            unlinkTitle(title, removed.value);
+        }
+    }
+
+    // Keep titlesById in step with a title entry that is gone
+    private void unlinkTitle(String title, Long id) {
+        if (id == ABSENT) {
+            return;
+        }
+        Set<String> titles = titlesById.get(id);
+        if (titles != null && titles.remove(title) && titles.isEmpty()) {
+            titlesById.remove(id);
+        }
+    }
+
+    private static int slot(Long id) {
+        return Long.hashCode(id) & (GENERATION_SLOTS - 1);
+    }
+
+    private <K, V> V getFresh(LinkedHashMap<K, Entry<V>> map, K key, BiConsumer<K, V> onRemove) {
+        Entry<V> entry = map.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.createdAt > ttlNanos) {
+            map.remove(key);
+            onRemove.accept(key, entry.value);
+            evictions.incrementAndGet();
+            return null;
+        }
+        return entry.value;
+    }
+
+    private <K, V> void putBounded(LinkedHashMap<K, Entry<V>> map, K key, V value, BiConsumer<K, V> onRemove) {
+        map.put(key, new Entry<>(value, System.nanoTime()));
+        Iterator<Map.Entry<K, Entry<V>>> it = map.entrySet().iterator();
+        while (map.size() > maxSize && it.hasNext()) {
+            Map.Entry<K, Entry<V>> eldest = it.next();
+            it.remove();
+            onRemove.accept(eldest.getKey(), eldest.getValue().value);
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static Task copy(Task task) {
+        return new Task(task.getId(), task.getTitle(), task.getDescription(),
+                task.getStatus(), task.getCreatedAt());
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long createdAt;
+
+        private Entry(V value, long createdAt) {
+            this.value = value;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -135,7 +135,12 @@ public class ConfigLoader {
             getProperty("db.name", "taskmanager"),
             getProperty("db.username", "root"),
             getProperty("db.password", "password"),
-            getProperty("db.driver", "com.mysql.cj.jdbc.Driver")
+            getProperty("db.driver", "com.mysql.cj.jdbc.Driver"),
+            getIntProperty("db.pool.size", 5),
+            getIntProperty("db.pool.timeout", 30000),
+            getIntProperty("db.pool.validationTimeout", 5),
+            getIntProperty("db.pool.leakDetectionThreshold", 0),
+            getIntProperty("db.pool.statementCacheSize", 25)
         );
     }
 }
@@ -1,36 +1,74 @@
 package com.taskmanager.config;
 
+import com.taskmanager.metrics.MetricFamily;
+import com.taskmanager.metrics.MetricsRegistry;
+import com.taskmanager.metrics.Timer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Manages database connections.
  *
  * This version includes logging for debugging connection issues.
+ * Connections come from a bounded ConnectionPool, so repository calls
+ * reuse open connections instead of paying a TCP + auth handshake each time.
+ *
+ * While a TransactionManager transaction is active on the current thread,
+ * getConnection() returns that transaction's connection, so every
+ * repository call in the transaction shares one connection and one commit.
  * In Spring Boot, connection management is handled automatically
  * by the DataSource auto-configuration and connection pooling.
  *
+ * Connection acquisition time is recorded in the
+ * taskmanager_connection_acquire_duration_seconds timer, and pool
+ * occupancy is exported as gauges (see PrometheusExporter).
+ *
  * FUTURE AOP ENHANCEMENT:
  * Connection management could be wrapped with aspects for:
- * - Performance monitoring (track connection acquisition time)
- * - Connection leak detection
  * - Automatic retry on transient failures
  */
 public class ConnectionManager {
     private static final Logger logger = LogManager.getLogger(ConnectionManager.class);
 
+    private static final MetricFamily<Timer> ACQUIRE_TIMERS = MetricsRegistry.getDefault().timers(
+            "taskmanager_connection_acquire_duration_seconds", "Time to borrow a pooled connection", "result");
+
     private final DatabaseConfig config;
+    private final ConnectionPool pool;
+
+    // Transaction bound to the current thread (set by TransactionManager)
+    private final ThreadLocal<TransactionContext> currentTransaction = new ThreadLocal<>();
 
     public ConnectionManager(DatabaseConfig config) {
         this.config = config;
         loadDriver();
+        this.pool = new ConnectionPool(config);
+        registerPoolMetrics(MetricsRegistry.getDefault());
         logger.info("ConnectionManager initialized with config: {}", config);
     }
 
+    private void registerPoolMetrics(MetricsRegistry registry) {
+        registry.gauge("taskmanager_connection_pool_active", "Connections currently borrowed",
+                pool::getActiveConnections);
+        registry.gauge("taskmanager_connection_pool_idle", "Idle connections in the pool",
+                pool::getIdleConnections);
+        registry.gauge("taskmanager_connection_pool_pending", "Threads waiting for a connection",
+                pool::getThreadsAwaitingConnection);
+        registry.gauge("taskmanager_connection_acquire_wait_avg_seconds", "Average wait to acquire a connection",
+                () -> pool.getAverageAcquireWaitMillis() / 1000.0);
+        registry.gauge("taskmanager_connection_acquire_wait_max_seconds", "Longest wait to acquire a connection",
+                () -> pool.getMaxAcquireWaitMillis() / 1000.0);
+        registry.counter("taskmanager_connection_acquire_timeouts_total", "Acquire attempts that timed out",
+                pool::getTimeoutCount);
+    }
+
     /**
      * Loads the JDBC driver.
      */
@@ -47,7 +85,8 @@ public class ConnectionManager {
     }
 
     /**
-     * Creates a new database connection.
+     * Borrows a connection from the pool.
+     * Closing the connection returns it to the pool.
      *
      * LOG POINTS (for future AOP):
      * - BEFORE: Log connection request
@@ -55,23 +94,30 @@ public class ConnectionManager {
      * - AFTER_THROWING: Log connection failure
      */
     public Connection getConnection() throws SQLException {
+        TransactionContext tx = currentTransaction.get();
+        if (tx != null) {
+            logger.debug("Using transaction-bound connection");
+            return tx.nonClosingConnection;
+        }
+
         logger.debug("Requesting database connection to: {}", config.getUrl());
 
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         try {
-            Connection connection = DriverManager.getConnection(
-                    config.getUrl(),
-                    config.getUsername(),
-                    config.getPassword()
-            );
+            Connection connection = pool.getConnection();
+            ACQUIRE_TIMERS.get("success").recordSince(startTime);
 
-            long duration = System.currentTimeMillis() - startTime;
-            logger.debug("Connection established in {}ms", duration);
+            if (logger.isDebugEnabled()) {
+                long duration = (System.nanoTime() - startTime) / 1_000_000;
+                logger.debug("Connection acquired in {}ms (active={}, idle={})",
+                        duration, pool.getActiveConnections(), pool.getIdleConnections());
+            }
 
             return connection;
 
         } catch (SQLException e) {
-            long duration = System.currentTimeMillis() - startTime;
+            ACQUIRE_TIMERS.get("failure").recordSince(startTime);
+            long duration = (System.nanoTime() - startTime) / 1_000_000;
             logger.error("Failed to establish connection after {}ms: {}", duration, e.getMessage());
             throw e;
         }
@@ -95,4 +141,97 @@ public class ConnectionManager {
             return false;
         }
     }
+
+    // ==================== Transaction Binding ====================
+
+    /**
+     * Whether a transaction is active on the current thread.
+     */
+    public boolean isTransactionActive() {
+        return currentTransaction.get() != null;
+    }
+
+    /**
+     * Run an action once the current transaction commits.
+     * Without an active transaction the action runs immediately.
+     * Actions are dropped if the transaction rolls back.
+     */
+    public void runAfterCommit(Runnable action) {
+        TransactionContext tx = currentTransaction.get();
+        if (tx == null) {
+            action.run();
+        } else {
+            tx.afterCommit.add(action);
+        }
+    }
+
+    TransactionContext getTransactionContext() {
+        return currentTransaction.get();
+    }
+
+    TransactionContext bindTransaction(Connection connection) {
+        TransactionContext tx = new TransactionContext(connection);
+        currentTransaction.set(tx);
+        return tx;
+    }
+
+    void unbindTransaction() {
+        currentTransaction.remove();
+    }
+
+    /**
+     * State of the transaction bound to one thread.
+     */
+    static final class TransactionContext {
+        final Connection connection;
+        final Connection nonClosingConnection;
+        final List<Runnable> afterCommit = new ArrayList<>();
+        boolean rollbackOnly;
+
+        private TransactionContext(Connection connection) {
+            this.connection = connection;
+            this.nonClosingConnection = nonClosing(connection);
+        }
+
+        /**
+         * Repositories close their connection in finally blocks; inside a
+         * transaction that close() must not hand the connection back yet.
+         */
+        private static Connection nonClosing(Connection target) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "close":
+                                return null;
+                            case "equals":
+                                return proxy == args[0];
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            default:
+                                try {
+                                    return method.invoke(target, args);
+                                } catch (InvocationTargetException e) {
+                                    throw e.getCause();
+                                }
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Access to pool statistics (active/idle counts, acquire wait times).
+     */
+    public ConnectionPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Close all pooled connections. Call once on application shutdown.
+     */
+    public void shutdown() {
+        logger.info("Shutting down ConnectionManager");
+        pool.shutdown();
+    }
 }
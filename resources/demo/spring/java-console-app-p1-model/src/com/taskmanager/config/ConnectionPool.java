@@ -0,0 +1,406 @@
+package com.taskmanager.config;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A small bounded JDBC connection pool.
+ *
+ * Opening a MySQL connection costs a TCP handshake plus authentication,
+ * which is usually more expensive than the query itself. The pool keeps
+ * up to {@code maxSize} physical connections open and hands out proxies
+ * whose close() returns the connection to the pool instead of closing it.
+ *
+ * Features:
+ * - Bounded size: borrowers wait up to {@code acquireTimeoutMs}, then fail
+ * - Validation on borrow: idle connections are checked with isValid()
+ * - Leak detection: connections held longer than the threshold are logged
+ *   together with the stack trace of the code that borrowed them
+ * - Statement caching: each physical connection keeps an LRU cache of
+ *   PreparedStatements, so constant SQL is only prepared once
+ * - Statistics: active/idle counts and acquire-wait timings
+ *
+ * In Spring Boot, this is what HikariCP provides behind the auto-configured
+ * DataSource (spring.datasource.hikari.*).
+ */
+public class ConnectionPool {
+    private static final Logger logger = LogManager.getLogger(ConnectionPool.class);
+
+    // Connections used this recently are assumed alive and skip isValid()
+    private static final long VALIDATION_BYPASS_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final DatabaseConfig config;
+    private final int maxSize;
+    private final long acquireTimeoutMs;
+    private final int validationTimeoutSeconds;
+    private final long leakDetectionThresholdMs;
+    private final int statementCacheSize;
+
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final Map<PooledConnection, Boolean> borrowed = new ConcurrentHashMap<>();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final ScheduledExecutorService leakDetector;
+    private volatile boolean shutdown;
+
+    // Statistics
+    private final AtomicLong acquireCount = new AtomicLong();
+    private final AtomicLong acquireWaitNanos = new AtomicLong();
+    private final AtomicLong maxAcquireWaitNanos = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong leakCount = new AtomicLong();
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+
+    public ConnectionPool(DatabaseConfig config) {
+        this.config = config;
+        this.maxSize = Math.max(1, config.getPoolSize());
+        this.acquireTimeoutMs = config.getPoolTimeoutMs();
+        this.validationTimeoutSeconds = config.getValidationTimeoutSeconds();
+        this.leakDetectionThresholdMs = config.getLeakDetectionThresholdMs();
+        this.statementCacheSize = config.getStatementCacheSize();
+        this.permits = new Semaphore(maxSize, true);
+
+        if (leakDetectionThresholdMs > 0) {
+            this.leakDetector = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "connection-leak-detector");
+                t.setDaemon(true);
+                return t;
+            });
+            long period = Math.max(1000, leakDetectionThresholdMs / 2);
+            leakDetector.scheduleAtFixedRate(this::detectLeaks, period, period, TimeUnit.MILLISECONDS);
+        } else {
+            this.leakDetector = null;
+        }
+
+        logger.info("ConnectionPool created: maxSize={}, acquireTimeout={}ms, leakDetectionThreshold={}ms, " +
+                "statementCacheSize={}", maxSize, acquireTimeoutMs, leakDetectionThresholdMs, statementCacheSize);
+    }
+
+    /**
+     * Borrow a connection, waiting up to the acquire timeout for a free slot.
+     * Closing the returned connection gives it back to the pool.
+     */
+    public Connection getConnection() throws SQLException {
+        if (shutdown) {
+            throw new SQLException("Connection pool has been shut down");
+        }
+
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection", e);
+        }
+
+        if (!acquired) {
+            timeoutCount.incrementAndGet();
+            logger.error("Timed out after {}ms waiting for a connection - {}", acquireTimeoutMs, getStats());
+            throw new SQLTransientConnectionException(
+                    "Connection is not available, request timed out after " + acquireTimeoutMs + "ms");
+        }
+
+        try {
+            PooledConnection pooled = takeIdleOrCreate();
+            pooled.borrowedAt = System.nanoTime();
+            pooled.borrowedBy = leakDetectionThresholdMs > 0 ? new Exception("Connection borrowed here") : null;
+            pooled.leakReported = false;
+            borrowed.put(pooled, Boolean.TRUE);
+
+            recordAcquireWait(System.nanoTime() - start);
+            return pooled.newProxy();
+
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Take the most recently used idle connection that is still valid,
+     * or open a new physical connection if none is available.
+     */
+    private PooledConnection takeIdleOrCreate() throws SQLException {
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            if (isAlive(pooled)) {
+                return pooled;
+            }
+            logger.warn("Discarding invalid pooled connection");
+            closePhysical(pooled);
+        }
+
+        Connection physical = DriverManager.getConnection(
+                config.getUrl(), config.getUsername(), config.getPassword());
+        int total = totalConnections.incrementAndGet();
+        logger.debug("Opened new physical connection ({} of {})", total, maxSize);
+        StatementCache cache = statementCacheSize > 0
+                ? new StatementCache(physical, statementCacheSize, statementCacheHits, statementCacheMisses)
+                : null;
+        return new PooledConnection(physical, cache);
+    }
+
+    private boolean isAlive(PooledConnection pooled) {
+        if (System.nanoTime() - pooled.lastReturnedAt < VALIDATION_BYPASS_NANOS) {
+            return true;
+        }
+        try {
+            return pooled.physical.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Return a connection to the pool. Called from the proxy's close().
+     */
+    private void release(PooledConnection pooled) {
+        borrowed.remove(pooled);
+        try {
+            if (shutdown || pooled.physical.isClosed()) {
+                closePhysical(pooled);
+                return;
+            }
+            resetState(pooled);
+            pooled.lastReturnedAt = System.nanoTime();
+            idle.offerFirst(pooled);
+        } catch (SQLException e) {
+            logger.warn("Discarding connection that failed to reset: {}", e.getMessage());
+            closePhysical(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Undo anything the borrower changed so the next borrower gets a clean connection.
+     */
+    private void resetState(PooledConnection pooled) throws SQLException {
+        Connection physical = pooled.physical;
+        if (!physical.getAutoCommit()) {
+            physical.rollback();
+            physical.setAutoCommit(true);
+        }
+        if (physical.isReadOnly()) {
+            physical.setReadOnly(false);
+        }
+        physical.clearWarnings();
+    }
+
+    private void closePhysical(PooledConnection pooled) {
+        totalConnections.decrementAndGet();
+        if (pooled.statementCache != null) {
+            pooled.statementCache.closeAll();
+        }
+        try {
+            pooled.physical.close();
+        } catch (SQLException e) {
+            logger.warn("Error closing physical connection: {}", e.getMessage());
+        }
+    }
+
+    private void recordAcquireWait(long waitNanos) {
+        acquireCount.incrementAndGet();
+        acquireWaitNanos.addAndGet(waitNanos);
+        maxAcquireWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    private void detectLeaks() {
+        long now = System.nanoTime();
+        long thresholdNanos = TimeUnit.MILLISECONDS.toNanos(leakDetectionThresholdMs);
+        for (PooledConnection pooled : borrowed.keySet()) {
+            if (!pooled.leakReported && now - pooled.borrowedAt > thresholdNanos) {
+                pooled.leakReported = true;
+                leakCount.incrementAndGet();
+                logger.warn("Possible connection leak: connection held for more than {}ms",
+                        leakDetectionThresholdMs, pooled.borrowedBy);
+            }
+        }
+    }
+
+    /**
+     * Close all idle connections and stop handing out new ones.
+     * Borrowed connections are closed when they are returned.
+     */
+    public void shutdown() {
+        shutdown = true;
+        if (leakDetector != null) {
+            leakDetector.shutdownNow();
+        }
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            closePhysical(pooled);
+        }
+        logger.info("ConnectionPool shut down - {}", getStats());
+    }
+
+    // ==================== Statistics ====================
+
+    public int getActiveConnections() {
+        return borrowed.size();
+    }
+
+    public int getIdleConnections() {
+        return idle.size();
+    }
+
+    public int getTotalConnections() {
+        return totalConnections.get();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Number of threads currently blocked waiting for a connection.
+     */
+    public int getThreadsAwaitingConnection() {
+        return permits.getQueueLength();
+    }
+
+    public long getAcquireCount() {
+        return acquireCount.get();
+    }
+
+    public double getAverageAcquireWaitMillis() {
+        long count = acquireCount.get();
+        return count == 0 ? 0.0 : acquireWaitNanos.get() / (double) count / 1_000_000.0;
+    }
+
+    public double getMaxAcquireWaitMillis() {
+        return maxAcquireWaitNanos.get() / 1_000_000.0;
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount.get();
+    }
+
+    public long getLeakCount() {
+        return leakCount.get();
+    }
+
+    public long getStatementCacheHits() {
+        return statementCacheHits.get();
+    }
+
+    public long getStatementCacheMisses() {
+        return statementCacheMisses.get();
+    }
+
+    public String getStats() {
+        return String.format(
+                "PoolStats{active=%d, idle=%d, total=%d, max=%d, waiting=%d, acquired=%d, " +
+                "avgWait=%.3fms, maxWait=%.3fms, timeouts=%d, leaks=%d, stmtHits=%d, stmtMisses=%d}",
+                getActiveConnections(), getIdleConnections(), getTotalConnections(), maxSize,
+                getThreadsAwaitingConnection(), getAcquireCount(),
+                getAverageAcquireWaitMillis(), getMaxAcquireWaitMillis(),
+                getTimeoutCount(), getLeakCount(),
+                getStatementCacheHits(), getStatementCacheMisses());
+    }
+
+    // ==================== Pooled Connection ====================
+
+    /**
+     * A physical connection plus the bookkeeping the pool needs for it.
+     */
+    private final class PooledConnection {
+        private final Connection physical;
+        private final StatementCache statementCache;
+        private volatile long borrowedAt;
+        private volatile long lastReturnedAt;
+        private volatile Exception borrowedBy;
+        private volatile boolean leakReported;
+
+        private PooledConnection(Connection physical, StatementCache statementCache) {
+            this.physical = physical;
+            this.statementCache = statementCache;
+        }
+
+        /**
+         * Each borrow gets its own proxy, so a stale reference kept after
+         * close() cannot touch a connection that now belongs to someone else.
+         */
+        private Connection newProxy() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new ProxyHandler(this));
+        }
+    }
+
+    private final class ProxyHandler implements InvocationHandler {
+        private final PooledConnection pooled;
+        private boolean closed;
+
+        private ProxyHandler(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        release(pooled);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || pooled.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + pooled.physical + "]";
+                default:
+                    if (closed) {
+                        throw new SQLException("Connection is closed");
+                    }
+                    if (isCacheablePrepare(method, args)) {
+                        int autoGeneratedKeys = args.length == 2 ? (Integer) args[1] : -1;
+                        return pooled.statementCache.prepare((String) args[0], autoGeneratedKeys);
+                    }
+                    try {
+                        return method.invoke(pooled.physical, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+
+        /**
+         * Only prepareStatement(String) and prepareStatement(String, int autoGeneratedKeys)
+         * are cached; the other overloads are rare enough to go straight to the driver.
+         */
+        private boolean isCacheablePrepare(Method method, Object[] args) {
+            if (pooled.statementCache == null || !method.getName().equals("prepareStatement")) {
+                return false;
+            }
+            Class<?>[] types = method.getParameterTypes();
+            return (types.length == 1)
+                    || (types.length == 2 && types[1] == int.class);
+        }
+    }
+}
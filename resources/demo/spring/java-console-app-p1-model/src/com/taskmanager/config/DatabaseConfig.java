@@ -17,18 +17,42 @@ public class DatabaseConfig {
     private final String password;
     private final String driverClassName;
 
+    // Connection pool settings
+    private final int poolSize;
+    private final long poolTimeoutMs;
+    private final int validationTimeoutSeconds;
+    private final long leakDetectionThresholdMs;
+    private final int statementCacheSize;
+
     public DatabaseConfig(String host, int port, String database,
                          String username, String password, String driverClassName) {
+        this(host, port, database, username, password, driverClassName, 5, 30000, 5, 0, 25);
+    }
+
+    public DatabaseConfig(String host, int port, String database,
+                         String username, String password, String driverClassName,
+                         int poolSize, long poolTimeoutMs,
+                         int validationTimeoutSeconds, long leakDetectionThresholdMs,
+                         int statementCacheSize) {
         this.host = host;
         this.port = port;
         this.database = database;
         this.username = username;
         this.password = password;
         this.driverClassName = driverClassName;
+        this.poolSize = poolSize;
+        this.poolTimeoutMs = poolTimeoutMs;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.leakDetectionThresholdMs = leakDetectionThresholdMs;
+        this.statementCacheSize = statementCacheSize;
     }
 
     public String getUrl() {
-        return String.format("jdbc:mysql://%s:%d/%s?useSSL=false&serverTimezone=UTC",
+        // useServerPrepStmts: cached PreparedStatements stay parsed on the server too
+        // rewriteBatchedStatements: executeBatch() sends multi-row INSERTs
+        // useCursorFetch: setFetchSize() streams rows instead of buffering the whole result
+        return String.format("jdbc:mysql://%s:%d/%s?useSSL=false&serverTimezone=UTC" +
+                        "&useServerPrepStmts=true&rewriteBatchedStatements=true&useCursorFetch=true",
                 host, port, database);
     }
 
@@ -56,10 +80,30 @@ public class DatabaseConfig {
         return driverClassName;
     }
 
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public long getPoolTimeoutMs() {
+        return poolTimeoutMs;
+    }
+
+    public int getValidationTimeoutSeconds() {
+        return validationTimeoutSeconds;
+    }
+
+    public long getLeakDetectionThresholdMs() {
+        return leakDetectionThresholdMs;
+    }
+
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
     @Override
     public String toString() {
         // Don't log password
-        return String.format("DatabaseConfig{host='%s', port=%d, database='%s', user='%s'}",
-                host, port, database, username);
+        return String.format("DatabaseConfig{host='%s', port=%d, database='%s', user='%s', poolSize=%d}",
+                host, port, database, username, poolSize);
     }
 }
@@ -0,0 +1,209 @@
+package com.taskmanager.config;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LRU cache of PreparedStatements for one physical connection.
+ *
+ * The repository prepares the same constant SQL strings over and over.
+ * With a pooled connection the statement can be kept open and reused:
+ * the driver (and, with server-side prepares, MySQL) parses the SQL once.
+ *
+ * Callers keep the usual pattern - prepareStatement(), use, close() -
+ * but close() on a cached statement resets it and hands it back to the
+ * cache instead of closing it: parameters and any batch the caller did
+ * not execute are cleared, and fetch size, max rows and query timeout go
+ * back to the values the statement was prepared with, so nothing leaks
+ * to the next borrower. A statement that cannot be reset is closed for
+ * real. When the cache is full, the least recently used statement is
+ * closed for real.
+ *
+ * Not thread-safe by design: a pooled connection is only used by the
+ * thread that borrowed it. Access is synchronized anyway so that a
+ * misbehaving caller cannot corrupt the LRU order.
+ */
+class StatementCache {
+    private static final Logger logger = LogManager.getLogger(StatementCache.class);
+
+    private final Connection physical;
+    private final int maxSize;
+    private final LinkedHashMap<Key, Entry> entries;
+
+    // Statistics shared by all caches of one pool
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+
+    StatementCache(Connection physical, int maxSize, AtomicLong hits, AtomicLong misses) {
+        this.physical = physical;
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Return a cached statement for the SQL, preparing it on first use.
+     *
+     * @param autoGeneratedKeys Statement.RETURN_GENERATED_KEYS / NO_GENERATED_KEYS,
+     *                          or -1 for a plain prepareStatement(sql)
+     */
+    synchronized PreparedStatement prepare(String sql, int autoGeneratedKeys) throws SQLException {
+        Key key = new Key(sql, autoGeneratedKeys);
+        Entry entry = entries.get(key);
+
+        if (entry != null && !entry.inUse) {
+            hits.incrementAndGet();
+            entry.inUse = true;
+            return entry.proxy;
+        }
+
+        misses.incrementAndGet();
+        PreparedStatement statement = autoGeneratedKeys < 0
+                ? physical.prepareStatement(sql)
+                : physical.prepareStatement(sql, autoGeneratedKeys);
+
+        if (entry != null) {
+            // Same SQL is already open on this connection (nested use) - don't cache the second one
+            return statement;
+        }
+
+        try {
+            entry = new Entry(key, statement, statement.getFetchSize(),
+                    statement.getMaxRows(), statement.getQueryTimeout());
+        } catch (SQLException e) {
+            closeQuietly(statement);
+            throw e;
+        }
+        entry.inUse = true;
+        entries.put(key, entry);
+        evictIfNeeded();
+        return entry.proxy;
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Entry> it = entries.values().iterator();
+        while (entries.size() > maxSize && it.hasNext()) {
+            Entry eldest = it.next();
+            it.remove();
+            eldest.evicted = true;
+            if (!eldest.inUse) {
+                closeQuietly(eldest.statement);
+            }
+            logger.debug("Evicted cached statement: {}", eldest.key.sql);
+        }
+    }
+
+    private synchronized void giveBack(Entry entry) {
+        entry.inUse = false;
+        if (entry.evicted) {
+            closeQuietly(entry.statement);
+            return;
+        }
+
+        try {
+            // A batch left by a failed caller would otherwise be replayed
+            // by the next borrower's executeBatch()
+            entry.statement.clearBatch();
+            entry.statement.clearParameters();
+            entry.statement.clearWarnings();
+            entry.statement.setFetchSize(entry.defaultFetchSize);
+            entry.statement.setMaxRows(entry.defaultMaxRows);
+            entry.statement.setQueryTimeout(entry.defaultQueryTimeout);
+        } catch (SQLException e) {
+            logger.warn("Could not reset cached statement, closing it: {}", e.getMessage());
+            entries.remove(entry.key);
+            entry.evicted = true;
+            closeQuietly(entry.statement);
+        }
+    }
+
+    /**
+     * Close every cached statement. Called before the physical connection is closed.
+     */
+    synchronized void closeAll() {
+        for (Entry entry : entries.values()) {
+            closeQuietly(entry.statement);
+        }
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            logger.warn("Error closing cached statement: {}", e.getMessage());
+        }
+    }
+
+    private record Key(String sql, int autoGeneratedKeys) {
+    }
+
+    private final class Entry implements InvocationHandler {
+        private final Key key;
+        private final PreparedStatement statement;
+        private final PreparedStatement proxy;
+        private final int defaultFetchSize;
+        private final int defaultMaxRows;
+        private final int defaultQueryTimeout;
+        private boolean inUse;
+        private boolean evicted;
+
+        private Entry(Key key, PreparedStatement statement,
+                      int defaultFetchSize, int defaultMaxRows, int defaultQueryTimeout) {
+            this.key = key;
+            this.statement = statement;
+            this.defaultFetchSize = defaultFetchSize;
+            this.defaultMaxRows = defaultMaxRows;
+            this.defaultQueryTimeout = defaultQueryTimeout;
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (inUse) {
+                        giveBack(this);
+                    }
+                    return null;
+                case "isClosed":
+                    return !inUse || statement.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "CachedStatement[" + key.sql + "]";
+                default:
+                    if (!inUse) {
+                        throw new SQLException("Statement is closed");
+                    }
+                    try {
+                        return method.invoke(statement, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.taskmanager.config;
+
+import com.taskmanager.exception.DataAccessException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Programmatic transactions for the service layer.
+ *
+ * inTransaction() borrows one connection, binds it to the current thread,
+ * turns off auto-commit and runs the work. Every repository call made by
+ * the work gets that same connection from ConnectionManager, so a
+ * read-check-write sequence costs one connection and one commit.
+ *
+ * - Work returns normally: COMMIT, then run the after-commit actions
+ * - Work throws: ROLLBACK, exception is rethrown unchanged
+ * - Called inside an active transaction: joins it (like REQUIRED propagation);
+ *   if the inner work throws, the outer transaction can only roll back
+ *
+ * In Spring, this is TransactionTemplate.execute() - or simply
+ * @Transactional on the service method.
+ */
+public class TransactionManager {
+    private static final Logger logger = LogManager.getLogger(TransactionManager.class);
+
+    private final ConnectionManager connectionManager;
+
+    public TransactionManager(ConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+        logger.info("TransactionManager initialized");
+    }
+
+    /**
+     * Work to run inside a transaction.
+     */
+    @FunctionalInterface
+    public interface TransactionCallback<T> {
+        T doInTransaction();
+    }
+
+    /**
+     * Run the work in a transaction and return its result.
+     */
+    public <T> T inTransaction(TransactionCallback<T> work) {
+        ConnectionManager.TransactionContext existing = connectionManager.getTransactionContext();
+        if (existing != null) {
+            return joinTransaction(existing, work);
+        }
+
+        Connection connection;
+        try {
+            connection = connectionManager.getConnection();
+            connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            throw new DataAccessException("Could not begin transaction: " + e.getMessage(),
+                    e.getSQLState(), e.getErrorCode(), e);
+        }
+
+        ConnectionManager.TransactionContext tx = connectionManager.bindTransaction(connection);
+        long startTime = System.currentTimeMillis();
+        logger.debug("Transaction started");
+
+        try {
+            T result;
+            try {
+                result = work.doInTransaction();
+            } catch (RuntimeException | Error e) {
+                rollback(connection);
+                throw e;
+            }
+
+            if (tx.rollbackOnly) {
+                rollback(connection);
+                throw new DataAccessException("Transaction rolled back because it was marked rollback-only");
+            }
+            commit(connection);
+            logger.debug("Transaction committed in {}ms", System.currentTimeMillis() - startTime);
+
+            // Unbind first so after-commit actions run outside the finished transaction
+            List<Runnable> afterCommit = tx.afterCommit;
+            connectionManager.unbindTransaction();
+            for (Runnable action : afterCommit) {
+                runQuietly(action);
+            }
+            return result;
+
+        } finally {
+            connectionManager.unbindTransaction();
+            try {
+                // Returning to the pool restores auto-commit
+                connection.close();
+            } catch (SQLException e) {
+                logger.warn("Error releasing transaction connection: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Run the work in a transaction, without a result.
+     */
+    public void runInTransaction(Runnable work) {
+        inTransaction(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private <T> T joinTransaction(ConnectionManager.TransactionContext tx, TransactionCallback<T> work) {
+        logger.debug("Joining existing transaction");
+        try {
+            return work.doInTransaction();
+        } catch (RuntimeException | Error e) {
+            tx.rollbackOnly = true;
+            throw e;
+        }
+    }
+
+    private void commit(Connection connection) {
+        try {
+            connection.commit();
+        } catch (SQLException e) {
+            logger.error("Commit failed: SQLState={}, Message={}", e.getSQLState(), e.getMessage());
+            rollback(connection);
+            throw new DataAccessException("Commit failed: " + e.getMessage(),
+                    e.getSQLState(), e.getErrorCode(), e);
+        }
+    }
+
+    private void rollback(Connection connection) {
+        try {
+            connection.rollback();
+            logger.debug("Transaction rolled back");
+        } catch (SQLException e) {
+            logger.warn("Rollback failed: {}", e.getMessage());
+        }
+    }
+
+    private void runQuietly(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            logger.warn("After-commit action failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.taskmanager.controller;
 
 import com.taskmanager.exception.BusinessException;
 import com.taskmanager.exception.ValidationException;
+import com.taskmanager.model.Page;
+import com.taskmanager.model.PageCursor;
 import com.taskmanager.model.Task;
 import com.taskmanager.model.TaskInput;
 import com.taskmanager.model.TaskStatus;
@@ -11,7 +13,9 @@ import com.taskmanager.validation.InputValidator;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -87,6 +91,37 @@ public class TaskController {
         return view;
     }
 
+    /**
+     * Create many tasks from input (bulk import).
+     *
+     * Every input is validated first; the service then checks title
+     * uniqueness and inserts the whole batch in one go.
+     *
+     * @param inputs Raw inputs, e.g. parsed from a CSV file
+     * @return Views of the created tasks, in input order
+     * @throws ValidationException if any input is invalid
+     * @throws BusinessException if business rules are violated
+     */
+    public List<TaskView> createTasks(List<TaskInput> inputs) {
+        logger.info("Controller: createTasks called with {} inputs", inputs.size());
+
+        List<Task> tasks = new ArrayList<>(inputs.size());
+        for (TaskInput input : inputs) {
+            inputValidator.validateForCreate(input);
+            tasks.add(convertInputToTask(input));
+        }
+        logger.debug("Input validation passed for {} tasks", tasks.size());
+
+        List<Task> createdTasks = taskService.createTasks(tasks);
+
+        List<TaskView> views = createdTasks.stream()
+                .map(this::convertTaskToView)
+                .collect(Collectors.toList());
+
+        logger.info("Controller: createTasks completed - {} created", views.size());
+        return views;
+    }
+
     /**
      * Get all tasks as formatted views.
      *
@@ -105,6 +140,51 @@ public class TaskController {
         return views;
     }
 
+    /**
+     * Get one page of task views.
+     *
+     * @param statusString Status to filter by, or null for all tasks
+     * @param after Cursor from the previous page, or null for the first page
+     * @param limit Page size
+     * @return Page of views with the cursor for the next page
+     */
+    public Page<TaskView> getTasksPage(String statusString, PageCursor after, int limit) {
+        logger.info("Controller: getTasksPage called - status={}, after={}, limit={}", statusString, after, limit);
+
+        TaskStatus status = statusString != null ? parseStatus(statusString) : null;
+        Page<TaskView> page = taskService.getTasksPage(status, after, limit).map(this::convertTaskToView);
+
+        logger.info("Controller: getTasksPage returning {} items, hasNext={}", page.getItems().size(), page.hasNext());
+        return page;
+    }
+
+    /**
+     * Stream task views page by page, so the caller can render rows
+     * as they arrive without holding the full list in memory.
+     *
+     * @param statusString Status to filter by, or null for all tasks
+     * @param pageSize Number of views per page
+     * @param pageConsumer Receives each page of views
+     * @return Total number of tasks streamed
+     */
+    public long streamTasks(String statusString, int pageSize, Consumer<List<TaskView>> pageConsumer) {
+        logger.info("Controller: streamTasks called - status={}, pageSize={}", statusString, pageSize);
+
+        TaskStatus status = statusString != null ? parseStatus(statusString) : null;
+        List<TaskView> views = new ArrayList<>(pageSize);
+
+        long total = taskService.streamTasks(status, pageSize, tasks -> {
+            views.clear();
+            for (Task task : tasks) {
+                views.add(convertTaskToView(task));
+            }
+            pageConsumer.accept(views);
+        });
+
+        logger.info("Controller: streamTasks completed - {} items", total);
+        return total;
+    }
+
     /**
      * Get a single task by ID.
      *
@@ -242,6 +322,14 @@ public class TaskController {
         return convertTaskToView(task);
     }
 
+    private TaskStatus parseStatus(String statusString) {
+        try {
+            return TaskStatus.fromString(statusString);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("status", e.getMessage());
+        }
+    }
+
     // ==================== Conversion Methods ====================
 
     /**
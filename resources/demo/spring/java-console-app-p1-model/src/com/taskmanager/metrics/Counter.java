@@ -0,0 +1,21 @@
+package com.taskmanager.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonically increasing count (e.g. errors by SQLState).
+ */
+public class Counter {
+    private final LongAdder value = new LongAdder();
+
+    Counter() {
+    }
+
+    public void increment() {
+        value.increment();
+    }
+
+    public long getCount() {
+        return value.sum();
+    }
+}
@@ -0,0 +1,54 @@
+package com.taskmanager.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * All series of one metric, keyed by the value of a single label.
+ *
+ * Example: the family "taskmanager_repository_duration_seconds" with label
+ * "method" holds one Timer per repository method. Looking up a series by
+ * a String constant does not allocate, so it is cheap on hot paths.
+ */
+public class MetricFamily<M> {
+    private final String name;
+    private final String help;
+    private final String labelName;
+    private final Supplier<M> factory;
+    private final Map<String, M> series = new ConcurrentHashMap<>();
+
+    MetricFamily(String name, String help, String labelName, Supplier<M> factory) {
+        this.name = name;
+        this.help = help;
+        this.labelName = labelName;
+        this.factory = factory;
+    }
+
+    /**
+     * The series for the label value, created on first use.
+     */
+    public M get(String labelValue) {
+        M metric = series.get(labelValue);
+        if (metric == null) {
+            metric = series.computeIfAbsent(labelValue, key -> factory.get());
+        }
+        return metric;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+
+    public String getLabelName() {
+        return labelName;
+    }
+
+    Map<String, M> getSeries() {
+        return series;
+    }
+}
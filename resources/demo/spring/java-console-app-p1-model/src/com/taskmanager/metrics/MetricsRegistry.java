@@ -0,0 +1,90 @@
+package com.taskmanager.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Holds every timer, counter and gauge of the application.
+ *
+ * Classes register their metrics once (usually in static fields) through
+ * the shared default registry and record into them on every call:
+ *
+ *   private static final MetricFamily<Timer> TIMERS = MetricsRegistry.getDefault()
+ *       .timers("taskmanager_repository_duration_seconds", "Repository call duration", "method");
+ *   ...
+ *   TIMERS.get("save").recordSince(startNanos);
+ *
+ * PrometheusExporter renders the registry in the Prometheus text format.
+ *
+ * In Spring Boot, this is Micrometer's MeterRegistry, exposed by Actuator
+ * at /actuator/prometheus.
+ */
+public class MetricsRegistry {
+    private static final MetricsRegistry DEFAULT = new MetricsRegistry();
+
+    private final Map<String, MetricFamily<Timer>> timers = new ConcurrentHashMap<>();
+    private final Map<String, MetricFamily<Counter>> counters = new ConcurrentHashMap<>();
+    private final Map<String, Gauge> gauges = new ConcurrentHashMap<>();
+    private final Map<String, FunctionCounter> functionCounters = new ConcurrentHashMap<>();
+
+    public static MetricsRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Timer family whose series are distinguished by one label.
+     */
+    public MetricFamily<Timer> timers(String name, String help, String labelName) {
+        return timers.computeIfAbsent(name, n -> new MetricFamily<>(n, help, labelName, Timer::new));
+    }
+
+    /**
+     * Counter family whose series are distinguished by one label.
+     */
+    public MetricFamily<Counter> counters(String name, String help, String labelName) {
+        return counters.computeIfAbsent(name, n -> new MetricFamily<>(n, help, labelName, Counter::new));
+    }
+
+    /**
+     * Gauge whose value is read when metrics are exported.
+     * Registering the same name again replaces the previous gauge.
+     */
+    public void gauge(String name, String help, DoubleSupplier value) {
+        gauges.put(name, new Gauge(name, help, value));
+    }
+
+    /**
+     * Counter whose value is kept elsewhere (e.g. by the connection pool) and
+     * read when metrics are exported; the value must never decrease.
+     * Registering the same name again replaces the previous counter.
+     *
+     * In Micrometer, this is FunctionCounter.
+     */
+    public void counter(String name, String help, LongSupplier value) {
+        functionCounters.put(name, new FunctionCounter(name, help, value));
+    }
+
+    Map<String, MetricFamily<Timer>> getTimers() {
+        return timers;
+    }
+
+    Map<String, MetricFamily<Counter>> getCounters() {
+        return counters;
+    }
+
+    Map<String, Gauge> getGauges() {
+        return gauges;
+    }
+
+    Map<String, FunctionCounter> getFunctionCounters() {
+        return functionCounters;
+    }
+
+    record Gauge(String name, String help, DoubleSupplier value) {
+    }
+
+    record FunctionCounter(String name, String help, LongSupplier value) {
+    }
+}
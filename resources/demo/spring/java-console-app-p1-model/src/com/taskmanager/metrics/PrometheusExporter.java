@@ -0,0 +1,205 @@
+package com.taskmanager.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders a MetricsRegistry in the Prometheus text exposition format.
+ *
+ * Two ways to get the output out of a console app:
+ * - startHttpServer(port): serves GET /metrics for a Prometheus scrape
+ * - startFileDump(path, seconds): rewrites a .prom file periodically
+ *   (node_exporter's textfile collector can pick it up)
+ *
+ * Timers are exported as summaries (p50/p95/p99, _count, _sum) plus a
+ * _max gauge; durations are in seconds as Prometheus expects.
+ *
+ * In Spring Boot, this is PrometheusMeterRegistry behind /actuator/prometheus.
+ */
+public class PrometheusExporter {
+    private static final Logger logger = LogManager.getLogger(PrometheusExporter.class);
+
+    private static final double[] QUANTILES = {0.5, 0.95, 0.99};
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final MetricsRegistry registry;
+    private HttpServer httpServer;
+    private ScheduledExecutorService dumpScheduler;
+    private Path dumpFile;
+
+    public PrometheusExporter(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Current value of every metric in the text exposition format.
+     */
+    public String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+
+        for (MetricFamily<Timer> family : sorted(registry.getTimers()).values()) {
+            String name = family.getName();
+            writeHeader(out, name, family.getHelp(), "summary");
+            Map<String, Timer> series = sorted(family.getSeries());
+            for (Map.Entry<String, Timer> entry : series.entrySet()) {
+                String label = label(family.getLabelName(), entry.getKey());
+                Timer timer = entry.getValue();
+                for (double quantile : QUANTILES) {
+                    out.append(name).append('{').append(label)
+                            .append(",quantile=\"").append(quantile).append("\"} ")
+                            .append(seconds(timer.percentile(quantile))).append('\n');
+                }
+                out.append(name).append("_count{").append(label).append("} ")
+                        .append(timer.getCount()).append('\n');
+                out.append(name).append("_sum{").append(label).append("} ")
+                        .append(seconds(timer.getTotalNanos())).append('\n');
+            }
+
+            writeHeader(out, name + "_max", family.getHelp() + " (maximum)", "gauge");
+            for (Map.Entry<String, Timer> entry : series.entrySet()) {
+                out.append(name).append("_max{").append(label(family.getLabelName(), entry.getKey()))
+                        .append("} ").append(seconds(entry.getValue().getMaxNanos())).append('\n');
+            }
+        }
+
+        for (MetricFamily<Counter> family : sorted(registry.getCounters()).values()) {
+            writeHeader(out, family.getName(), family.getHelp(), "counter");
+            for (Map.Entry<String, Counter> entry : sorted(family.getSeries()).entrySet()) {
+                out.append(family.getName()).append('{')
+                        .append(label(family.getLabelName(), entry.getKey())).append("} ")
+                        .append(entry.getValue().getCount()).append('\n');
+            }
+        }
+
+        for (MetricsRegistry.FunctionCounter counter : sorted(registry.getFunctionCounters()).values()) {
+            writeHeader(out, counter.name(), counter.help(), "counter");
+            long value;
+            try {
+                value = counter.value().getAsLong();
+            } catch (RuntimeException e) {
+                logger.warn("Counter {} failed: {}", counter.name(), e.getMessage());
+                continue;
+            }
+            out.append(counter.name()).append(' ').append(value).append('\n');
+        }
+
+        for (MetricsRegistry.Gauge gauge : sorted(registry.getGauges()).values()) {
+            writeHeader(out, gauge.name(), gauge.help(), "gauge");
+            double value;
+            try {
+                value = gauge.value().getAsDouble();
+            } catch (RuntimeException e) {
+                logger.warn("Gauge {} failed: {}", gauge.name(), e.getMessage());
+                value = Double.NaN;
+            }
+            out.append(gauge.name()).append(' ').append(value).append('\n');
+        }
+
+        return out.toString();
+    }
+
+    /**
+     * Serve GET /metrics on the given port (daemon thread).
+     */
+    public synchronized void startHttpServer(int port) throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress(port), 0);
+        httpServer.createContext("/metrics", exchange -> {
+            byte[] body = scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        httpServer.setExecutor(Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "metrics-http");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        httpServer.start();
+        logger.info("Metrics endpoint listening on http://localhost:{}/metrics", port);
+    }
+
+    /**
+     * Rewrite the given file with the current metrics every intervalSeconds.
+     * The file is replaced atomically so readers never see a partial dump.
+     */
+    public synchronized void startFileDump(Path file, long intervalSeconds) {
+        this.dumpFile = file;
+        dumpScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumpScheduler.scheduleAtFixedRate(this::dumpQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        logger.info("Writing metrics to {} every {}s", file, intervalSeconds);
+    }
+
+    /**
+     * Write the current metrics to a file.
+     */
+    public void writeTo(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(tmp, scrape(), StandardCharsets.UTF_8);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Stop the HTTP server and the file dump. The file is written one last time.
+     */
+    public synchronized void stop() {
+        if (httpServer != null) {
+            httpServer.stop(0);
+            httpServer = null;
+        }
+        if (dumpScheduler != null) {
+            dumpScheduler.shutdownNow();
+            dumpScheduler = null;
+            dumpQuietly();
+        }
+    }
+
+    private void dumpQuietly() {
+        try {
+            writeTo(dumpFile);
+        } catch (IOException e) {
+            logger.warn("Could not write metrics to {}: {}", dumpFile, e.getMessage());
+        }
+    }
+
+    private static void writeHeader(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static String label(String name, String value) {
+        String escaped = value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+        return name + "=\"" + escaped + "\"";
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / NANOS_PER_SECOND;
+    }
+
+    private static <V> Map<String, V> sorted(Map<String, V> map) {
+        return new TreeMap<>(map);
+    }
+}
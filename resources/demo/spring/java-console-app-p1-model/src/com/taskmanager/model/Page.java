@@ -0,0 +1,51 @@
+package com.taskmanager.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing.
+ *
+ * There is no total count on purpose: counting would need a full scan,
+ * which is exactly what pagination is meant to avoid. Use hasNext() and
+ * getNextCursor() to fetch the following page.
+ *
+ * In Spring Data, this corresponds to Slice<T> (as opposed to Page<T>).
+ */
+public final class Page<T> {
+    private final List<T> items;
+    private final PageCursor nextCursor;
+
+    public Page(List<T> items, PageCursor nextCursor) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Cursor for the next page, or null if this is the last page.
+     */
+    public PageCursor getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Convert the items, keeping the same cursor (e.g. Task -> TaskView).
+     */
+    public <R> Page<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = new ArrayList<>(items.size());
+        for (T item : items) {
+            mapped.add(mapper.apply(item));
+        }
+        return new Page<>(mapped, nextCursor);
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskmanager.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position in a keyset-paginated task listing.
+ *
+ * Tasks are listed newest first, ordered by (created_at DESC, id DESC).
+ * The cursor holds the sort key of the last task on a page; the next page
+ * starts right after it. Unlike OFFSET, the database can seek straight
+ * to the cursor using the index, so page 1000 costs the same as page 1.
+ */
+public final class PageCursor {
+    private final LocalDateTime createdAt;
+    private final long id;
+
+    public PageCursor(LocalDateTime createdAt, long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * Cursor pointing just after the given task.
+     */
+    public static PageCursor after(Task task) {
+        return new PageCursor(task.getCreatedAt(), task.getId());
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PageCursor{createdAt=%s, id=%d}", createdAt, id);
+    }
+}
@@ -0,0 +1,206 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.cache.TaskCache;
+import com.taskmanager.config.ConnectionManager;
+import com.taskmanager.exception.DataAccessException;
+import com.taskmanager.model.Task;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * TaskRepository with a read-through, write-through cache in front of it.
+ *
+ * TaskService calls findById() before every update/delete and
+ * existsByTitle() before every create/rename. With this decorator those
+ * calls are usually answered from TaskCache:
+ * - findById(): read-through, loads and caches on a miss
+ * - existsByTitle(): caches "absent" answers, so checking a new title is free
+ * - inside a transaction, what these reads load may be uncommitted (the
+ *   transaction's own writes), so it is cached only after the commit
+ * - save()/update()/deleteById() and the batch variants evict the old
+ *   entries at once and cache the new state only after the surrounding
+ *   transaction commits, so the cache never holds unconfirmed state
+ *
+ * Only answers that this process can keep correct are cached. If another
+ * process inserts a title we believe is absent, the UNIQUE constraint on
+ * tasks.title still rejects the duplicate; TTL bounds any other staleness.
+ *
+ * AOP EQUIVALENT:
+ * @Cacheable("tasks") on findById, @CachePut on save/update,
+ * @CacheEvict on deleteById.
+ */
+public class CachingTaskRepository extends TaskRepository {
+    private static final Logger logger = LogManager.getLogger(CachingTaskRepository.class);
+
+    private final TaskCache cache;
+
+    public CachingTaskRepository(ConnectionManager connectionManager, int batchSize, TaskCache cache) {
+        super(connectionManager, batchSize);
+        this.cache = cache;
+        logger.info("CachingTaskRepository initialized");
+    }
+
+    public TaskCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        Task cached = cache.getById(id);
+        if (cached != null) {
+            logger.debug("Cache hit: findById({})", id);
+            return Optional.of(cached);
+        }
+
+        // A write to this id while we read makes our row stale: skip caching it
+        long generation = cache.generation(id);
+        Optional<Task> result = super.findById(id);
+        result.ifPresent(task -> {
+            Task snapshot = snapshot(task);
+            getConnectionManager().runAfterCommit(() -> cache.putIfCurrent(snapshot, generation));
+        });
+        return result;
+    }
+
+    @Override
+    public boolean existsByTitle(String title) {
+        Boolean cached = cache.titleExists(title);
+        if (cached != null) {
+            logger.debug("Cache hit: existsByTitle('{}') = {}", title, cached);
+            return cached;
+        }
+
+        boolean exists = super.existsByTitle(title);
+        if (!exists) {
+            // Positive answers are not cached: without the id they could not be
+            // evicted when that task is deleted
+            getConnectionManager().runAfterCommit(() -> cache.putTitleAbsent(title));
+        }
+        return exists;
+    }
+
+    @Override
+    public Set<String> findExistingTitles(Collection<String> titles) {
+        Set<String> existing = new HashSet<>();
+        List<String> unknown = new ArrayList<>();
+
+        for (String title : titles) {
+            Boolean cached = cache.titleExists(title);
+            if (cached == null) {
+                unknown.add(title);
+            } else if (cached) {
+                existing.add(title);
+            }
+        }
+
+        if (!unknown.isEmpty()) {
+            Set<String> found = super.findExistingTitles(unknown);
+            for (String title : unknown) {
+                if (!found.contains(title)) {
+                    getConnectionManager().runAfterCommit(() -> cache.putTitleAbsent(title));
+                }
+            }
+            existing.addAll(found);
+        }
+
+        logger.debug("findExistingTitles: {} titles, {} answered from cache", titles.size(),
+                titles.size() - unknown.size());
+        return existing;
+    }
+
+    @Override
+    public Task save(Task task) {
+        try {
+            Task saved = super.save(task);
+            cache.evictTitle(saved.getTitle());
+            cacheAfterCommit(saved);
+            return saved;
+        } catch (DataAccessException e) {
+            cache.evictTitle(task.getTitle());
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Task> saveAll(Collection<Task> tasks) {
+        try {
+            List<Task> saved = super.saveAll(tasks);
+            for (Task task : saved) {
+                cache.evictTitle(task.getTitle());
+                cacheAfterCommit(task);
+            }
+            return saved;
+        } catch (DataAccessException e) {
+            tasks.forEach(task -> cache.evictTitle(task.getTitle()));
+            throw e;
+        }
+    }
+
+    @Override
+    public Task update(Task task) {
+        try {
+            Task updated = super.update(task);
+            cache.evict(updated.getId());
+            cache.evictTitle(updated.getTitle());
+            cacheAfterCommit(updated);
+            return updated;
+        } catch (DataAccessException e) {
+            cache.evict(task.getId());
+            cache.evictTitle(task.getTitle());
+            throw e;
+        }
+    }
+
+    @Override
+    public int updateAll(Collection<Task> tasks) {
+        try {
+            int updated = super.updateAll(tasks);
+            for (Task task : tasks) {
+                cache.evict(task.getId());
+                cache.evictTitle(task.getTitle());
+                cacheAfterCommit(task);
+            }
+            return updated;
+        } catch (DataAccessException e) {
+            for (Task task : tasks) {
+                cache.evict(task.getId());
+                cache.evictTitle(task.getTitle());
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        try {
+            return super.deleteById(id);
+        } finally {
+            cache.evict(id);
+            // Another thread may re-cache the old row before we commit
+            getConnectionManager().runAfterCommit(() -> cache.evict(id));
+        }
+    }
+
+    /**
+     * Cache the written state once it is committed. Inside a transaction
+     * the put is deferred, so a rollback never leaves uncommitted data in
+     * the cache; outside one it happens immediately.
+     */
+    private void cacheAfterCommit(Task task) {
+        Task snapshot = snapshot(task);
+        getConnectionManager().runAfterCommit(() -> cache.put(snapshot));
+    }
+
+    // Copy taken now: the caller may keep modifying its Task object before the commit
+    private static Task snapshot(Task task) {
+        return new Task(task.getId(), task.getTitle(), task.getDescription(),
+                task.getStatus(), task.getCreatedAt());
+    }
+}
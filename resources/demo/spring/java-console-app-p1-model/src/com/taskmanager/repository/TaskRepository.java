@@ -2,6 +2,12 @@ package com.taskmanager.repository;
 
 import com.taskmanager.config.ConnectionManager;
 import com.taskmanager.exception.DataAccessException;
+import com.taskmanager.metrics.Counter;
+import com.taskmanager.metrics.MetricFamily;
+import com.taskmanager.metrics.MetricsRegistry;
+import com.taskmanager.metrics.Timer;
+import com.taskmanager.model.Page;
+import com.taskmanager.model.PageCursor;
 import com.taskmanager.model.Task;
 import com.taskmanager.model.TaskStatus;
 import org.apache.logging.log4j.LogManager;
@@ -10,8 +16,13 @@ import org.apache.logging.log4j.Logger;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Data Access Object for Task entity using raw JDBC.
@@ -33,13 +44,66 @@ import java.util.Optional;
  * - Exception in {method}: {exception}
  */
 public class TaskRepository {
+    // Debug statements with several or primitive arguments are wrapped in
+    // isDebugEnabled() so that no boxing or argument work happens when
+    // repository DEBUG logging is off (it runs on every call).
     private static final Logger logger = LogManager.getLogger(TaskRepository.class);
 
+    // Per-method latency and DataAccessException counts, exported by PrometheusExporter.
+    // Errors raised without an SQLException (e.g. "no rows affected") use sqlstate="none".
+    private static final MetricFamily<Timer> METHOD_TIMERS = MetricsRegistry.getDefault().timers(
+            "taskmanager_repository_duration_seconds", "TaskRepository call duration", "method");
+    private static final MetricFamily<Counter> ERRORS = MetricsRegistry.getDefault().counters(
+            "taskmanager_data_access_errors_total", "DataAccessExceptions thrown by TaskRepository", "sqlstate");
+
+    // SQL is kept in constants so the pooled connection's statement cache
+    // sees the identical string on every call and reuses the prepared statement
+    private static final String COLUMNS = "id, title, description, status, created_at";
+    private static final String INSERT_SQL =
+            "INSERT INTO tasks (title, description, status, created_at) VALUES (?, ?, ?, ?)";
+    private static final String FIND_BY_ID_SQL = "SELECT " + COLUMNS + " FROM tasks WHERE id = ?";
+    private static final String FIND_BY_ID_FOR_UPDATE_SQL = FIND_BY_ID_SQL + " FOR UPDATE";
+    private static final String FIND_ALL_SQL = "SELECT " + COLUMNS + " FROM tasks ORDER BY created_at DESC";
+    private static final String UPDATE_SQL =
+            "UPDATE tasks SET title = ?, description = ?, status = ? WHERE id = ?";
+    private static final String DELETE_SQL = "DELETE FROM tasks WHERE id = ?";
+    private static final String FIND_BY_STATUS_SQL =
+            "SELECT " + COLUMNS + " FROM tasks WHERE status = ? ORDER BY created_at DESC";
+    private static final String EXISTS_BY_TITLE_SQL = "SELECT 1 FROM tasks WHERE title = ? LIMIT 1";
+
+    // Keyset pagination on (created_at, id), newest first.
+    // Backed by indexes on (created_at, id) and (status, created_at, id).
+    private static final String KEYSET_ORDER = " ORDER BY created_at DESC, id DESC";
+    private static final String KEYSET_AFTER = "(created_at < ? OR (created_at = ? AND id < ?))";
+    private static final String PAGE_FIRST_SQL =
+            "SELECT " + COLUMNS + " FROM tasks" + KEYSET_ORDER + " LIMIT ?";
+    private static final String PAGE_AFTER_SQL =
+            "SELECT " + COLUMNS + " FROM tasks WHERE " + KEYSET_AFTER + KEYSET_ORDER + " LIMIT ?";
+    private static final String PAGE_BY_STATUS_FIRST_SQL =
+            "SELECT " + COLUMNS + " FROM tasks WHERE status = ?" + KEYSET_ORDER + " LIMIT ?";
+    private static final String PAGE_BY_STATUS_AFTER_SQL =
+            "SELECT " + COLUMNS + " FROM tasks WHERE status = ? AND " + KEYSET_AFTER + KEYSET_ORDER + " LIMIT ?";
+    private static final String STREAM_ALL_SQL = "SELECT " + COLUMNS + " FROM tasks" + KEYSET_ORDER;
+    private static final String STREAM_BY_STATUS_SQL =
+            "SELECT " + COLUMNS + " FROM tasks WHERE status = ?" + KEYSET_ORDER;
+
+    private static final int DEFAULT_BATCH_SIZE = 500;
+
     private final ConnectionManager connectionManager;
+    private final int batchSize;
 
     public TaskRepository(ConnectionManager connectionManager) {
+        this(connectionManager, DEFAULT_BATCH_SIZE);
+    }
+
+    public TaskRepository(ConnectionManager connectionManager, int batchSize) {
         this.connectionManager = connectionManager;
-        logger.info("TaskRepository initialized");
+        this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+        logger.info("TaskRepository initialized (batchSize={})", this.batchSize);
+    }
+
+    protected ConnectionManager getConnectionManager() {
+        return connectionManager;
     }
 
     /**
@@ -52,8 +116,8 @@ public class TaskRepository {
         logger.debug("Entering save() with task: title='{}', status={}",
                 task.getTitle(), task.getStatus());
 
-        String sql = "INSERT INTO tasks (title, description, status, created_at) VALUES (?, ?, ?, ?)";
-        long startTime = System.currentTimeMillis();
+        String sql = INSERT_SQL;
+        long startTime = System.nanoTime();
 
         Connection conn = null;
         PreparedStatement ps = null;
@@ -68,13 +132,16 @@ public class TaskRepository {
             ps.setString(3, task.getStatus().name());
             ps.setTimestamp(4, Timestamp.valueOf(task.getCreatedAt()));
 
-            logger.debug("Executing SQL: {} with params: [{}, {}, {}, {}]",
-                    sql, task.getTitle(), task.getDescription(),
-                    task.getStatus(), task.getCreatedAt());
+            if (logger.isDebugEnabled()) {
+                logger.debug("Executing SQL: {} with params: [{}, {}, {}, {}]",
+                        sql, task.getTitle(), task.getDescription(),
+                        task.getStatus(), task.getCreatedAt());
+            }
 
             int affectedRows = ps.executeUpdate();
 
             if (affectedRows == 0) {
+                recordError(null);
                 throw new DataAccessException("Creating task failed, no rows affected");
             }
 
@@ -83,13 +150,14 @@ public class TaskRepository {
                 task.setId(rs.getLong(1));
             }
 
-            long duration = System.currentTimeMillis() - startTime;
+            long duration = elapsedMillis(startTime);
             logger.info("Exiting save() - created task id={} in {}ms", task.getId(), duration);
 
             return task;
 
         } catch (SQLException e) {
-            long duration = System.currentTimeMillis() - startTime;
+            recordError(e.getSQLState());
+            long duration = elapsedMillis(startTime);
             logger.error("Exception in save() after {}ms: SQLState={}, ErrorCode={}, Message={}",
                     duration, e.getSQLState(), e.getErrorCode(), e.getMessage());
 
@@ -101,6 +169,7 @@ public class TaskRepository {
                     e
             );
         } finally {
+            METHOD_TIMERS.get("save").recordSince(startTime);
             closeQuietly(rs);
             closeQuietly(ps);
             closeQuietly(conn);
@@ -113,8 +182,8 @@ public class TaskRepository {
     public Optional<Task> findById(Long id) {
         logger.debug("Entering findById() with id={}", id);
 
-        String sql = "SELECT * FROM tasks WHERE id = ?";
-        long startTime = System.currentTimeMillis();
+        String sql = FIND_BY_ID_SQL;
+        long startTime = System.nanoTime();
 
         Connection conn = null;
         PreparedStatement ps = null;
@@ -131,21 +200,80 @@ public class TaskRepository {
 
             Optional<Task> result;
             if (rs.next()) {
-                result = Optional.of(mapRowToTask(rs));
+                result = Optional.of(TaskRowMapper.forResultSet(rs).mapRow(rs));
             } else {
                 result = Optional.empty();
             }
 
-            long duration = System.currentTimeMillis() - startTime;
-            logger.debug("Exiting findById() - found={} in {}ms", result.isPresent(), duration);
+            long duration = elapsedMillis(startTime);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Exiting findById() - found={} in {}ms", result.isPresent(), duration);
+            }
 
             return result;
 
         } catch (SQLException e) {
-            long duration = System.currentTimeMillis() - startTime;
+            recordError(e.getSQLState());
+            long duration = elapsedMillis(startTime);
             logger.error("Exception in findById() after {}ms: {}", duration, e.getMessage());
             throw new DataAccessException("Error finding task by id: " + id, e);
         } finally {
+            METHOD_TIMERS.get("findById").recordSince(startTime);
+            closeQuietly(rs);
+            closeQuietly(ps);
+            closeQuietly(conn);
+        }
+    }
+
+    /**
+     * Find a task by ID and lock its row until the current transaction ends.
+     *
+     * SELECT ... FOR UPDATE makes concurrent writers of the same task wait,
+     * so a read-check-write in TaskService cannot lose another writer's
+     * update. Only meaningful inside a TransactionManager transaction;
+     * in auto-commit mode the lock is released immediately.
+     */
+    public Optional<Task> findByIdForUpdate(Long id) {
+        logger.debug("Entering findByIdForUpdate() with id={}", id);
+
+        String sql = FIND_BY_ID_FOR_UPDATE_SQL;
+        long startTime = System.nanoTime();
+
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        try {
+            conn = connectionManager.getConnection();
+            ps = conn.prepareStatement(sql);
+            ps.setLong(1, id);
+
+            logger.debug("Executing SQL: {} with params: [{}]", sql, id);
+
+            rs = ps.executeQuery();
+
+            Optional<Task> result;
+            if (rs.next()) {
+                result = Optional.of(TaskRowMapper.forResultSet(rs).mapRow(rs));
+            } else {
+                result = Optional.empty();
+            }
+
+            long duration = elapsedMillis(startTime);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Exiting findByIdForUpdate() - found={} in {}ms", result.isPresent(), duration);
+            }
+
+            return result;
+
+        } catch (SQLException e) {
+            recordError(e.getSQLState());
+            long duration = elapsedMillis(startTime);
+            logger.error("Exception in findByIdForUpdate() after {}ms: {}", duration, e.getMessage());
+            throw new DataAccessException("Error locking task by id: " + id,
+                    e.getSQLState(), e.getErrorCode(), e);
+        } finally {
+            METHOD_TIMERS.get("findByIdForUpdate").recordSince(startTime);
             closeQuietly(rs);
             closeQuietly(ps);
             closeQuietly(conn);
@@ -158,8 +286,8 @@ public class TaskRepository {
     public List<Task> findAll() {
         logger.debug("Entering findAll()");
 
-        String sql = "SELECT * FROM tasks ORDER BY created_at DESC";
-        long startTime = System.currentTimeMillis();
+        String sql = FIND_ALL_SQL;
+        long startTime = System.nanoTime();
 
         List<Task> tasks = new ArrayList<>();
         Connection conn = null;
@@ -174,20 +302,23 @@ public class TaskRepository {
 
             rs = ps.executeQuery();
 
+            TaskRowMapper mapper = TaskRowMapper.forResultSet(rs);
             while (rs.next()) {
-                tasks.add(mapRowToTask(rs));
+                tasks.add(mapper.mapRow(rs));
             }
 
-            long duration = System.currentTimeMillis() - startTime;
+            long duration = elapsedMillis(startTime);
             logger.info("Exiting findAll() - found {} tasks in {}ms", tasks.size(), duration);
 
             return tasks;
 
         } catch (SQLException e) {
-            long duration = System.currentTimeMillis() - startTime;
+            recordError(e.getSQLState());
+            long duration = elapsedMillis(startTime);
             logger.error("Exception in findAll() after {}ms: {}", duration, e.getMessage());
             throw new DataAccessException("Error finding all tasks", e);
         } finally {
+            METHOD_TIMERS.get("findAll").recordSince(startTime);
             closeQuietly(rs);
             closeQuietly(ps);
             closeQuietly(conn);
@@ -201,8 +332,8 @@ public class TaskRepository {
         logger.debug("Entering update() with task: id={}, title='{}', status={}",
                 task.getId(), task.getTitle(), task.getStatus());
 
-        String sql = "UPDATE tasks SET title = ?, description = ?, status = ? WHERE id = ?";
-        long startTime = System.currentTimeMillis();
+        String sql = UPDATE_SQL;
+        long startTime = System.nanoTime();
 
         Connection conn = null;
         PreparedStatement ps = null;
@@ -216,21 +347,25 @@ public class TaskRepository {
             ps.setString(3, task.getStatus().name());
             ps.setLong(4, task.getId());
 
-            logger.debug("Executing SQL: {} with params: [{}, {}, {}, {}]",
-                    sql, task.getTitle(), task.getDescription(), task.getStatus(), task.getId());
+            if (logger.isDebugEnabled()) {
+                logger.debug("Executing SQL: {} with params: [{}, {}, {}, {}]",
+                        sql, task.getTitle(), task.getDescription(), task.getStatus(), task.getId());
+            }
 
             int affectedRows = ps.executeUpdate();
             if (affectedRows == 0) {
+                recordError(null);
                 throw new DataAccessException("Updating task failed, no rows affected. Task may not exist.");
             }
 
-            long duration = System.currentTimeMillis() - startTime;
+            long duration = elapsedMillis(startTime);
             logger.info("Exiting update() - updated task id={} in {}ms", task.getId(), duration);
 
             return task;
 
         } catch (SQLException e) {
-            long duration = System.currentTimeMillis() - startTime;
+            recordError(e.getSQLState());
+            long duration = elapsedMillis(startTime);
             logger.error("Exception in update() after {}ms: SQLState={}, ErrorCode={}, Message={}",
                     duration, e.getSQLState(), e.getErrorCode(), e.getMessage());
 
@@ -241,6 +376,7 @@ public class TaskRepository {
                     e
             );
         } finally {
+            METHOD_TIMERS.get("update").recordSince(startTime);
             closeQuietly(ps);
             closeQuietly(conn);
         }
@@ -252,8 +388,8 @@ public class TaskRepository {
     public boolean deleteById(Long id) {
         logger.debug("Entering deleteById() with id={}", id);
 
-        String sql = "DELETE FROM tasks WHERE id = ?";
-        long startTime = System.currentTimeMillis();
+        String sql = DELETE_SQL;
+        long startTime = System.nanoTime();
 
         Connection conn = null;
         PreparedStatement ps = null;
@@ -267,17 +403,19 @@ public class TaskRepository {
 
             int affectedRows = ps.executeUpdate();
 
-            long duration = System.currentTimeMillis() - startTime;
+            long duration = elapsedMillis(startTime);
             boolean deleted = affectedRows > 0;
             logger.info("Exiting deleteById() - deleted={} in {}ms", deleted, duration);
 
             return deleted;
 
         } catch (SQLException e) {
-            long duration = System.currentTimeMillis() - startTime;
+            recordError(e.getSQLState());
+            long duration = elapsedMillis(startTime);
             logger.error("Exception in deleteById() after {}ms: {}", duration, e.getMessage());
             throw new DataAccessException("Error deleting task: " + id, e);
         } finally {
+            METHOD_TIMERS.get("deleteById").recordSince(startTime);
             closeQuietly(ps);
             closeQuietly(conn);
         }
@@ -289,8 +427,8 @@ public class TaskRepository {
     public List<Task> findByStatus(TaskStatus status) {
         logger.debug("Entering findByStatus() with status={}", status);
 
-        String sql = "SELECT * FROM tasks WHERE status = ? ORDER BY created_at DESC";
-        long startTime = System.currentTimeMillis();
+        String sql = FIND_BY_STATUS_SQL;
+        long startTime = System.nanoTime();
 
         List<Task> tasks = new ArrayList<>();
         Connection conn = null;
@@ -306,20 +444,23 @@ public class TaskRepository {
 
             rs = ps.executeQuery();
 
+            TaskRowMapper mapper = TaskRowMapper.forResultSet(rs);
             while (rs.next()) {
-                tasks.add(mapRowToTask(rs));
+                tasks.add(mapper.mapRow(rs));
             }
 
-            long duration = System.currentTimeMillis() - startTime;
+            long duration = elapsedMillis(startTime);
             logger.info("Exiting findByStatus() - found {} tasks in {}ms", tasks.size(), duration);
 
             return tasks;
 
         } catch (SQLException e) {
-            long duration = System.currentTimeMillis() - startTime;
+            recordError(e.getSQLState());
+            long duration = elapsedMillis(startTime);
             logger.error("Exception in findByStatus() after {}ms: {}", duration, e.getMessage());
             throw new DataAccessException("Error finding tasks by status: " + status, e);
         } finally {
+            METHOD_TIMERS.get("findByStatus").recordSince(startTime);
             closeQuietly(rs);
             closeQuietly(ps);
             closeQuietly(conn);
@@ -332,8 +473,8 @@ public class TaskRepository {
     public boolean existsByTitle(String title) {
         logger.debug("Entering existsByTitle() with title='{}'", title);
 
-        String sql = "SELECT COUNT(*) FROM tasks WHERE title = ?";
-        long startTime = System.currentTimeMillis();
+        String sql = EXISTS_BY_TITLE_SQL;
+        long startTime = System.nanoTime();
 
         Connection conn = null;
         PreparedStatement ps = null;
@@ -345,35 +486,461 @@ public class TaskRepository {
             ps.setString(1, title);
 
             rs = ps.executeQuery();
-            boolean exists = rs.next() && rs.getInt(1) > 0;
+            boolean exists = rs.next();
 
-            long duration = System.currentTimeMillis() - startTime;
-            logger.debug("Exiting existsByTitle() - exists={} in {}ms", exists, duration);
+            long duration = elapsedMillis(startTime);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Exiting existsByTitle() - exists={} in {}ms", exists, duration);
+            }
 
             return exists;
 
         } catch (SQLException e) {
-            long duration = System.currentTimeMillis() - startTime;
+            recordError(e.getSQLState());
+            long duration = elapsedMillis(startTime);
             logger.error("Exception in existsByTitle() after {}ms: {}", duration, e.getMessage());
             throw new DataAccessException("Error checking task existence by title", e);
         } finally {
+            METHOD_TIMERS.get("existsByTitle").recordSince(startTime);
             closeQuietly(rs);
             closeQuietly(ps);
             closeQuietly(conn);
         }
     }
 
+    // ==================== Paginated / Streaming Reads ====================
+
+    /**
+     * Find one page of tasks using keyset (seek) pagination.
+     *
+     * Instead of OFFSET, the query continues after the (created_at, id) of
+     * the previous page's last row, so every page is an index range scan of
+     * at most limit + 1 rows regardless of how deep the page is.
+     *
+     * @param status Filter by status, or null for all tasks
+     * @param after  Cursor from the previous page, or null for the first page
+     * @param limit  Maximum number of tasks on the page
+     */
+    public Page<Task> findPage(TaskStatus status, PageCursor after, int limit) {
+        logger.debug("Entering findPage() with status={}, after={}, limit={}", status, after, limit);
+
+        String sql;
+        if (status == null) {
+            sql = after == null ? PAGE_FIRST_SQL : PAGE_AFTER_SQL;
+        } else {
+            sql = after == null ? PAGE_BY_STATUS_FIRST_SQL : PAGE_BY_STATUS_AFTER_SQL;
+        }
+        long startTime = System.nanoTime();
+
+        List<Task> tasks = new ArrayList<>(limit + 1);
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        try {
+            conn = connectionManager.getConnection();
+            ps = conn.prepareStatement(sql);
+
+            int index = 1;
+            if (status != null) {
+                ps.setString(index++, status.name());
+            }
+            if (after != null) {
+                Timestamp createdAt = Timestamp.valueOf(after.getCreatedAt());
+                ps.setTimestamp(index++, createdAt);
+                ps.setTimestamp(index++, createdAt);
+                ps.setLong(index++, after.getId());
+            }
+            // One extra row tells us whether there is a next page
+            ps.setInt(index, limit + 1);
+
+            rs = ps.executeQuery();
+
+            TaskRowMapper mapper = TaskRowMapper.forResultSet(rs);
+            while (rs.next()) {
+                tasks.add(mapper.mapRow(rs));
+            }
+
+            PageCursor next = null;
+            if (tasks.size() > limit) {
+                tasks.remove(limit);
+                next = PageCursor.after(tasks.get(limit - 1));
+            }
+
+            long duration = elapsedMillis(startTime);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Exiting findPage() - found {} tasks, hasNext={} in {}ms",
+                        tasks.size(), next != null, duration);
+            }
+
+            return new Page<>(tasks, next);
+
+        } catch (SQLException e) {
+            recordError(e.getSQLState());
+            long duration = elapsedMillis(startTime);
+            logger.error("Exception in findPage() after {}ms: {}", duration, e.getMessage());
+            throw new DataAccessException("Error finding page of tasks", e);
+        } finally {
+            METHOD_TIMERS.get("findPage").recordSince(startTime);
+            closeQuietly(rs);
+            closeQuietly(ps);
+            closeQuietly(conn);
+        }
+    }
+
+    /**
+     * Stream all tasks (optionally filtered by status) to a consumer, one page at a time.
+     *
+     * Uses a single forward-only, read-only query with setFetchSize(pageSize),
+     * so the driver fetches rows from the server in chunks (MySQL needs
+     * useCursorFetch=true for this). Only one page of Task objects is held
+     * in memory at a time, no matter how large the table is.
+     *
+     * The list passed to the consumer is reused for the next page; copy it
+     * if it must outlive the call.
+     *
+     * @return total number of tasks streamed
+     */
+    public long streamAll(TaskStatus status, int pageSize, Consumer<List<Task>> pageConsumer) {
+        logger.debug("Entering streamAll() with status={}, pageSize={}", status, pageSize);
+
+        String sql = status == null ? STREAM_ALL_SQL : STREAM_BY_STATUS_SQL;
+        long startTime = System.nanoTime();
+
+        List<Task> page = new ArrayList<>(pageSize);
+        long total = 0;
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        try {
+            conn = connectionManager.getConnection();
+            // Not from the statement cache: cursor settings are specific to this query
+            ps = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(pageSize);
+            if (status != null) {
+                ps.setString(1, status.name());
+            }
+
+            rs = ps.executeQuery();
+
+            TaskRowMapper mapper = TaskRowMapper.forResultSet(rs);
+            while (rs.next()) {
+                page.add(mapper.mapRow(rs));
+                if (page.size() == pageSize) {
+                    total += page.size();
+                    pageConsumer.accept(page);
+                    page.clear();
+                }
+            }
+            if (!page.isEmpty()) {
+                total += page.size();
+                pageConsumer.accept(page);
+            }
+
+            long duration = elapsedMillis(startTime);
+            logger.info("Exiting streamAll() - streamed {} tasks in {}ms", total, duration);
+
+            return total;
+
+        } catch (SQLException e) {
+            recordError(e.getSQLState());
+            long duration = elapsedMillis(startTime);
+            logger.error("Exception in streamAll() after {}ms: {}", duration, e.getMessage());
+            throw new DataAccessException("Error streaming tasks", e);
+        } finally {
+            METHOD_TIMERS.get("streamAll").recordSince(startTime);
+            closeQuietly(rs);
+            closeQuietly(ps);
+            closeQuietly(conn);
+        }
+    }
+
+    // ==================== Batch Operations ====================
+
+    /**
+     * Save many new tasks using JDBC batching.
+     *
+     * Rows are sent in chunks of batchSize with addBatch()/executeBatch(),
+     * so N tasks cost N / batchSize round trips instead of N. Everything runs
+     * in a single transaction (the caller's, if one is active): either all
+     * tasks are inserted or none are.
+     * Generated ids are written back into the given Task objects.
+     */
+    public List<Task> saveAll(Collection<Task> tasks) {
+        logger.debug("Entering saveAll() with {} tasks", tasks.size());
+
+        List<Task> saved = new ArrayList<>(tasks);
+        if (saved.isEmpty()) {
+            return saved;
+        }
+
+        long startTime = System.nanoTime();
+
+        Connection conn = null;
+        PreparedStatement ps = null;
+        boolean localTransaction = false;
+
+        try {
+            conn = connectionManager.getConnection();
+            // Join the caller's transaction if there is one, otherwise run our own
+            localTransaction = conn.getAutoCommit();
+            if (localTransaction) {
+                conn.setAutoCommit(false);
+            }
+            ps = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+
+            int chunkStart = 0;
+            for (int i = 0; i < saved.size(); i++) {
+                Task task = saved.get(i);
+                ps.setString(1, task.getTitle());
+                ps.setString(2, task.getDescription());
+                ps.setString(3, task.getStatus().name());
+                ps.setTimestamp(4, Timestamp.valueOf(task.getCreatedAt()));
+                ps.addBatch();
+
+                if (i - chunkStart + 1 == batchSize || i == saved.size() - 1) {
+                    ps.executeBatch();
+                    assignGeneratedKeys(ps, saved, chunkStart, i + 1);
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Executed insert batch rows {}-{}", chunkStart, i);
+                    }
+                    chunkStart = i + 1;
+                }
+            }
+
+            if (localTransaction) {
+                conn.commit();
+            }
+
+            long duration = elapsedMillis(startTime);
+            logger.info("Exiting saveAll() - created {} tasks in {}ms", saved.size(), duration);
+
+            return saved;
+
+        } catch (SQLException e) {
+            recordError(e.getSQLState());
+            long duration = elapsedMillis(startTime);
+            logger.error("Exception in saveAll() after {}ms: SQLState={}, ErrorCode={}, Message={}",
+                    duration, e.getSQLState(), e.getErrorCode(), e.getMessage());
+            if (localTransaction) {
+                rollbackQuietly(conn);
+            }
+
+            throw new DataAccessException(
+                    "Error saving tasks: " + e.getMessage(),
+                    e.getSQLState(),
+                    e.getErrorCode(),
+                    e
+            );
+        } finally {
+            METHOD_TIMERS.get("saveAll").recordSince(startTime);
+            closeQuietly(ps);
+            if (localTransaction) {
+                restoreAutoCommit(conn);
+            }
+            closeQuietly(conn);
+        }
+    }
+
+    /**
+     * Read the generated ids of one executed batch into tasks[from, to).
+     */
+    private void assignGeneratedKeys(PreparedStatement ps, List<Task> tasks, int from, int to)
+            throws SQLException {
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+            int index = from;
+            while (keys.next() && index < to) {
+                tasks.get(index++).setId(keys.getLong(1));
+            }
+            if (index < to) {
+                logger.warn("Driver returned {} generated keys for {} inserted rows", index - from, to - from);
+            }
+        }
+    }
+
     /**
-     * Maps a database row to a Task object.
+     * Update many existing tasks using JDBC batching.
+     *
+     * Runs in a single transaction (the caller's, if one is active). If any
+     * task no longer exists, the batch is rolled back and a
+     * DataAccessException is thrown.
+     *
+     * @return number of updated rows
      */
-    private Task mapRowToTask(ResultSet rs) throws SQLException {
-        return new Task(
-                rs.getLong("id"),
-                rs.getString("title"),
-                rs.getString("description"),
-                TaskStatus.valueOf(rs.getString("status")),
-                rs.getTimestamp("created_at").toLocalDateTime()
-        );
+    public int updateAll(Collection<Task> tasks) {
+        logger.debug("Entering updateAll() with {} tasks", tasks.size());
+
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+
+        long startTime = System.nanoTime();
+
+        Connection conn = null;
+        PreparedStatement ps = null;
+        boolean localTransaction = false;
+
+        try {
+            conn = connectionManager.getConnection();
+            // Join the caller's transaction if there is one, otherwise run our own
+            localTransaction = conn.getAutoCommit();
+            if (localTransaction) {
+                conn.setAutoCommit(false);
+            }
+            ps = conn.prepareStatement(UPDATE_SQL);
+
+            List<Task> pending = new ArrayList<>(tasks);
+            List<Long> missingIds = new ArrayList<>();
+            int chunkStart = 0;
+            for (int i = 0; i < pending.size(); i++) {
+                Task task = pending.get(i);
+                ps.setString(1, task.getTitle());
+                ps.setString(2, task.getDescription());
+                ps.setString(3, task.getStatus().name());
+                ps.setLong(4, task.getId());
+                ps.addBatch();
+
+                if (i - chunkStart + 1 == batchSize || i == pending.size() - 1) {
+                    int[] counts = ps.executeBatch();
+                    for (int j = 0; j < counts.length; j++) {
+                        if (counts[j] == 0) {
+                            missingIds.add(pending.get(chunkStart + j).getId());
+                        }
+                    }
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Executed update batch rows {}-{}", chunkStart, i);
+                    }
+                    chunkStart = i + 1;
+                }
+            }
+
+            if (!missingIds.isEmpty()) {
+                if (localTransaction) {
+                    rollbackQuietly(conn);
+                }
+                recordError(null);
+                throw new DataAccessException("Updating tasks failed, no rows affected for ids: " + missingIds);
+            }
+
+            if (localTransaction) {
+                conn.commit();
+            }
+
+            long duration = elapsedMillis(startTime);
+            logger.info("Exiting updateAll() - updated {} tasks in {}ms", pending.size(), duration);
+
+            return pending.size();
+
+        } catch (SQLException e) {
+            recordError(e.getSQLState());
+            long duration = elapsedMillis(startTime);
+            logger.error("Exception in updateAll() after {}ms: SQLState={}, ErrorCode={}, Message={}",
+                    duration, e.getSQLState(), e.getErrorCode(), e.getMessage());
+            if (localTransaction) {
+                rollbackQuietly(conn);
+            }
+
+            throw new DataAccessException(
+                    "Error updating tasks: " + e.getMessage(),
+                    e.getSQLState(),
+                    e.getErrorCode(),
+                    e
+            );
+        } finally {
+            METHOD_TIMERS.get("updateAll").recordSince(startTime);
+            closeQuietly(ps);
+            if (localTransaction) {
+                restoreAutoCommit(conn);
+            }
+            closeQuietly(conn);
+        }
+    }
+
+    /**
+     * Return which of the given titles already exist.
+     *
+     * Uses WHERE title IN (...) with up to batchSize titles per query,
+     * instead of one existsByTitle() round trip per title.
+     */
+    public Set<String> findExistingTitles(Collection<String> titles) {
+        logger.debug("Entering findExistingTitles() with {} titles", titles.size());
+
+        Set<String> existing = new HashSet<>();
+        if (titles.isEmpty()) {
+            return existing;
+        }
+
+        long startTime = System.nanoTime();
+        List<String> all = new ArrayList<>(titles);
+
+        Connection conn = null;
+
+        try {
+            conn = connectionManager.getConnection();
+
+            for (int from = 0; from < all.size(); from += batchSize) {
+                List<String> chunk = all.subList(from, Math.min(from + batchSize, all.size()));
+                String sql = "SELECT title FROM tasks WHERE title IN ("
+                        + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        ps.setString(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            existing.add(rs.getString(1));
+                        }
+                    }
+                }
+            }
+
+            long duration = elapsedMillis(startTime);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Exiting findExistingTitles() - {} of {} exist in {}ms",
+                        existing.size(), all.size(), duration);
+            }
+
+            return existing;
+
+        } catch (SQLException e) {
+            recordError(e.getSQLState());
+            long duration = elapsedMillis(startTime);
+            logger.error("Exception in findExistingTitles() after {}ms: {}", duration, e.getMessage());
+            throw new DataAccessException("Error checking task existence by titles", e);
+        } finally {
+            METHOD_TIMERS.get("findExistingTitles").recordSince(startTime);
+            closeQuietly(conn);
+        }
+    }
+
+    private void rollbackQuietly(Connection conn) {
+        if (conn != null) {
+            try {
+                conn.rollback();
+            } catch (SQLException e) {
+                logger.warn("Error rolling back transaction: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private static void recordError(String sqlState) {
+        ERRORS.get(sqlState != null ? sqlState : "none").increment();
+    }
+
+    private void restoreAutoCommit(Connection conn) {
+        if (conn != null) {
+            try {
+                conn.setAutoCommit(true);
+            } catch (SQLException e) {
+                logger.warn("Error restoring auto-commit: {}", e.getMessage());
+            }
+        }
     }
 
     /**
@@ -0,0 +1,60 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Maps rows of the tasks table to Task objects.
+ *
+ * rs.getLong("id") makes the driver search the column labels on every
+ * call. This mapper resolves each column index once per ResultSet and
+ * then reads every row by index.
+ *
+ * Usage:
+ *   TaskRowMapper mapper = TaskRowMapper.forResultSet(rs);
+ *   while (rs.next()) {
+ *       tasks.add(mapper.mapRow(rs));
+ *   }
+ *
+ * In Spring JDBC, this is the RowMapper<Task> passed to JdbcTemplate.query().
+ */
+public final class TaskRowMapper {
+    private final int idIndex;
+    private final int titleIndex;
+    private final int descriptionIndex;
+    private final int statusIndex;
+    private final int createdAtIndex;
+
+    private TaskRowMapper(ResultSet rs) throws SQLException {
+        this.idIndex = rs.findColumn("id");
+        this.titleIndex = rs.findColumn("title");
+        this.descriptionIndex = rs.findColumn("description");
+        this.statusIndex = rs.findColumn("status");
+        this.createdAtIndex = rs.findColumn("created_at");
+    }
+
+    /**
+     * Resolve column indexes for the given ResultSet.
+     */
+    public static TaskRowMapper forResultSet(ResultSet rs) throws SQLException {
+        return new TaskRowMapper(rs);
+    }
+
+    /**
+     * Map the current row of the ResultSet to a Task.
+     */
+    public Task mapRow(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp(createdAtIndex);
+        return new Task(
+                rs.getLong(idIndex),
+                rs.getString(titleIndex),
+                rs.getString(descriptionIndex),
+                TaskStatus.valueOf(rs.getString(statusIndex)),
+                createdAt != null ? createdAt.toLocalDateTime() : null
+        );
+    }
+}
@@ -1,16 +1,26 @@
 package com.taskmanager.service;
 
+import com.taskmanager.config.TransactionManager;
 import com.taskmanager.exception.BusinessException;
 import com.taskmanager.exception.DataAccessException;
 import com.taskmanager.exception.DuplicateTaskException;
 import com.taskmanager.exception.TaskNotFoundException;
+import com.taskmanager.metrics.MetricFamily;
+import com.taskmanager.metrics.MetricsRegistry;
+import com.taskmanager.metrics.Timer;
+import com.taskmanager.model.Page;
+import com.taskmanager.model.PageCursor;
 import com.taskmanager.model.Task;
 import com.taskmanager.model.TaskStatus;
 import com.taskmanager.repository.TaskRepository;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Business logic layer for Task operations.
@@ -19,6 +29,7 @@ import java.util.List;
  * 1. Contains business rules and validation logic
  * 2. Translates repository exceptions to business exceptions
  * 3. Logs business operations for audit trails
+ * 4. Runs each write (read-check-write) in one transaction via TransactionManager
  *
  * EXCEPTION TRANSLATION:
  * - DataAccessException with unique constraint violation -> DuplicateTaskException
@@ -26,7 +37,8 @@ import java.util.List;
  *
  * FUTURE AOP ENHANCEMENT:
  * This service could be enhanced with aspects for:
- * - @Transactional behavior (automatic commit/rollback)
+ * - @Transactional behavior (replacing the explicit inTransaction() calls)
+ * - @Timed (replacing the explicit timed() calls)
  * - @Cacheable for frequently accessed tasks
  * - @Secured for role-based access control
  * - Automatic exception translation
@@ -43,11 +55,46 @@ import java.util.List;
 public class TaskService {
     private static final Logger logger = LogManager.getLogger(TaskService.class);
 
+    // End-to-end latency of each business operation, including transaction
+    // begin/commit and failed calls (exported by PrometheusExporter)
+    private static final MetricFamily<Timer> OPERATION_TIMERS = MetricsRegistry.getDefault().timers(
+            "taskmanager_service_duration_seconds", "TaskService operation duration", "operation");
+
+    // One series per operation, looked up once so a typo cannot hide until the call
+    private static final Timer CREATE_TASK_TIMER = OPERATION_TIMERS.get("createTask");
+    private static final Timer CREATE_TASKS_TIMER = OPERATION_TIMERS.get("createTasks");
+    private static final Timer GET_ALL_TASKS_TIMER = OPERATION_TIMERS.get("getAllTasks");
+    private static final Timer GET_TASKS_PAGE_TIMER = OPERATION_TIMERS.get("getTasksPage");
+    private static final Timer STREAM_TASKS_TIMER = OPERATION_TIMERS.get("streamTasks");
+    private static final Timer GET_TASK_BY_ID_TIMER = OPERATION_TIMERS.get("getTaskById");
+    private static final Timer UPDATE_TASK_TIMER = OPERATION_TIMERS.get("updateTask");
+    private static final Timer UPDATE_TASK_STATUS_TIMER = OPERATION_TIMERS.get("updateTaskStatus");
+    private static final Timer DELETE_TASK_TIMER = OPERATION_TIMERS.get("deleteTask");
+    private static final Timer GET_TASKS_BY_STATUS_TIMER = OPERATION_TIMERS.get("getTasksByStatus");
+
     private final TaskRepository taskRepository;
+    private final TransactionManager transactionManager;
+    private final boolean lockForUpdate;
 
+    /**
+     * Service without transactions: every repository call auto-commits.
+     */
     public TaskService(TaskRepository taskRepository) {
+        this(taskRepository, null, false);
+    }
+
+    /**
+     * @param transactionManager Runs each write operation in a single transaction
+     * @param lockForUpdate If true, writes load the task with SELECT ... FOR UPDATE
+     *                      so concurrent writers of the same task cannot lose updates
+     */
+    public TaskService(TaskRepository taskRepository, TransactionManager transactionManager,
+                       boolean lockForUpdate) {
         this.taskRepository = taskRepository;
-        logger.info("TaskService initialized");
+        this.transactionManager = transactionManager;
+        this.lockForUpdate = lockForUpdate;
+        logger.info("TaskService initialized (transactional={}, lockForUpdate={})",
+                transactionManager != null, lockForUpdate);
     }
 
     /**
@@ -59,32 +106,89 @@ public class TaskService {
      * @throws BusinessException for other business rule violations
      */
     public Task createTask(Task task) {
-        logger.info("Creating task with title: '{}'", task.getTitle());
-
-        // Business rule: title must be unique
-        // Note: This is also enforced at DB level, but checking here
-        // provides a better error message before hitting the database
-        if (taskRepository.existsByTitle(task.getTitle())) {
-            logger.warn("Duplicate task title detected: '{}'", task.getTitle());
-            throw new DuplicateTaskException(task.getTitle());
-        }
-
-        try {
-            Task savedTask = taskRepository.save(task);
-            logger.info("Task created successfully: id={}, title='{}'",
-                    savedTask.getId(), savedTask.getTitle());
-            return savedTask;
+        return timed(CREATE_TASK_TIMER, () -> {
+            logger.info("Creating task with title: '{}'", task.getTitle());
+
+            return inTransaction(() -> {
+                // Business rule: title must be unique
+                // Note: This is also enforced at DB level, but checking here
+                // provides a better error message before hitting the database
+                if (taskRepository.existsByTitle(task.getTitle())) {
+                    logger.warn("Duplicate task title detected: '{}'", task.getTitle());
+                    throw new DuplicateTaskException(task.getTitle());
+                }
+
+                try {
+                    Task savedTask = taskRepository.save(task);
+                    logger.info("Task created successfully: id={}, title='{}'",
+                            savedTask.getId(), savedTask.getTitle());
+                    return savedTask;
+
+                } catch (DataAccessException e) {
+                    // Translate SQL constraint violation to business exception
+                    if (e.isUniqueConstraintViolation()) {
+                        logger.warn("SQL unique constraint violation for title: '{}'", task.getTitle());
+                        throw new DuplicateTaskException(task.getTitle(), e);
+                    }
+                    // Re-throw other data access errors
+                    logger.error("Failed to create task: {}", e.getMessage());
+                    throw new BusinessException("Failed to create task", e);
+                }
+            });
+        });
+    }
 
-        } catch (DataAccessException e) {
-            // Translate SQL constraint violation to business exception
-            if (e.isUniqueConstraintViolation()) {
-                logger.warn("SQL unique constraint violation for title: '{}'", task.getTitle());
-                throw new DuplicateTaskException(task.getTitle(), e);
-            }
-            // Re-throw other data access errors
-            logger.error("Failed to create task: {}", e.getMessage());
-            throw new BusinessException("Failed to create task", e);
-        }
+    /**
+     * Create many tasks at once (bulk import).
+     *
+     * Title uniqueness is checked for the whole batch with a single
+     * IN (...) query instead of one existsByTitle() call per task, and
+     * the rows are inserted with JDBC batching. All-or-nothing: if any
+     * title is a duplicate, no task is created.
+     *
+     * @param tasks The tasks to create (ids should be null)
+     * @return The created tasks with generated ids, in input order
+     * @throws DuplicateTaskException if a title repeats in the batch or already exists
+     * @throws BusinessException for other business rule violations
+     */
+    public List<Task> createTasks(List<Task> tasks) {
+        return timed(CREATE_TASKS_TIMER, () -> {
+            logger.info("Creating {} tasks in bulk", tasks.size());
+
+            return inTransaction(() -> {
+                // Business rule: titles must be unique within the batch ...
+                Set<String> titles = new HashSet<>();
+                for (Task task : tasks) {
+                    if (!titles.add(task.getTitle())) {
+                        logger.warn("Duplicate task title within batch: '{}'", task.getTitle());
+                        throw new DuplicateTaskException(task.getTitle());
+                    }
+                }
+
+                try {
+                    // ... and against existing tasks (one query for the whole batch)
+                    Set<String> existing = taskRepository.findExistingTitles(titles);
+                    if (!existing.isEmpty()) {
+                        String title = existing.iterator().next();
+                        logger.warn("{} duplicate task titles detected, e.g. '{}'", existing.size(), title);
+                        throw new DuplicateTaskException(title);
+                    }
+
+                    List<Task> savedTasks = taskRepository.saveAll(tasks);
+                    logger.info("Bulk created {} tasks", savedTasks.size());
+                    return savedTasks;
+
+                } catch (DataAccessException e) {
+                    if (e.isUniqueConstraintViolation()) {
+                        logger.warn("SQL unique constraint violation during bulk create: {}", e.getMessage());
+                        throw new BusinessException("DUPLICATE_TASK",
+                                "Bulk create failed: duplicate title", e);
+                    }
+                    logger.error("Failed to create tasks: {}", e.getMessage());
+                    throw new BusinessException("Failed to create tasks", e);
+                }
+            });
+        });
     }
 
     /**
@@ -93,17 +197,77 @@ public class TaskService {
      * @return List of all tasks, ordered by creation date (newest first)
      */
     public List<Task> getAllTasks() {
-        logger.debug("Retrieving all tasks");
+        return timed(GET_ALL_TASKS_TIMER, () -> {
+            logger.debug("Retrieving all tasks");
 
-        try {
-            List<Task> tasks = taskRepository.findAll();
-            logger.info("Retrieved {} tasks", tasks.size());
-            return tasks;
+            try {
+                List<Task> tasks = taskRepository.findAll();
+                logger.info("Retrieved {} tasks", tasks.size());
+                return tasks;
 
-        } catch (DataAccessException e) {
-            logger.error("Failed to retrieve tasks: {}", e.getMessage());
-            throw new BusinessException("Failed to retrieve tasks", e);
-        }
+            } catch (DataAccessException e) {
+                logger.error("Failed to retrieve tasks: {}", e.getMessage());
+                throw new BusinessException("Failed to retrieve tasks", e);
+            }
+        });
+    }
+
+    /**
+     * Get one page of tasks, newest first.
+     *
+     * @param status Filter by status, or null for all tasks
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param limit Maximum number of tasks on the page
+     * @return The page and the cursor for the next one
+     */
+    public Page<Task> getTasksPage(TaskStatus status, PageCursor after, int limit) {
+        return timed(GET_TASKS_PAGE_TIMER, () -> {
+            logger.debug("Retrieving page of tasks: status={}, after={}, limit={}", status, after, limit);
+
+            if (limit <= 0) {
+                throw new BusinessException("INVALID_PAGE_SIZE", "Page size must be positive");
+            }
+
+            try {
+                Page<Task> page = taskRepository.findPage(status, after, limit);
+                logger.debug("Retrieved page of {} tasks, hasNext={}", page.getItems().size(), page.hasNext());
+                return page;
+
+            } catch (DataAccessException e) {
+                logger.error("Failed to retrieve page of tasks: {}", e.getMessage());
+                throw new BusinessException("Failed to retrieve tasks", e);
+            }
+        });
+    }
+
+    /**
+     * Stream tasks to a consumer page by page, newest first.
+     *
+     * Memory use is bounded by the page size, not by the number of tasks.
+     *
+     * @param status Filter by status, or null for all tasks
+     * @param pageSize Number of tasks handed to the consumer at a time
+     * @param pageConsumer Receives each page (the list is reused between calls)
+     * @return Total number of tasks streamed
+     */
+    public long streamTasks(TaskStatus status, int pageSize, Consumer<List<Task>> pageConsumer) {
+        return timed(STREAM_TASKS_TIMER, () -> {
+            logger.debug("Streaming tasks: status={}, pageSize={}", status, pageSize);
+
+            if (pageSize <= 0) {
+                throw new BusinessException("INVALID_PAGE_SIZE", "Page size must be positive");
+            }
+
+            try {
+                long total = taskRepository.streamAll(status, pageSize, pageConsumer);
+                logger.info("Streamed {} tasks", total);
+                return total;
+
+            } catch (DataAccessException e) {
+                logger.error("Failed to stream tasks: {}", e.getMessage());
+                throw new BusinessException("Failed to retrieve tasks", e);
+            }
+        });
     }
 
     /**
@@ -114,24 +278,26 @@ public class TaskService {
      * @throws TaskNotFoundException if task doesn't exist
      */
     public Task getTaskById(Long id) {
-        logger.debug("Retrieving task with id: {}", id);
-
-        try {
-            Task task = taskRepository.findById(id)
-                    .orElseThrow(() -> {
-                        logger.warn("Task not found: id={}", id);
-                        return new TaskNotFoundException(id);
-                    });
-
-            logger.debug("Found task: id={}, title='{}'", task.getId(), task.getTitle());
-            return task;
-
-        } catch (TaskNotFoundException e) {
-            throw e;  // Re-throw business exceptions as-is
-        } catch (DataAccessException e) {
-            logger.error("Failed to retrieve task {}: {}", id, e.getMessage());
-            throw new BusinessException("Failed to retrieve task", e);
-        }
+        return timed(GET_TASK_BY_ID_TIMER, () -> {
+            logger.debug("Retrieving task with id: {}", id);
+
+            try {
+                Task task = taskRepository.findById(id)
+                        .orElseThrow(() -> {
+                            logger.warn("Task not found: id={}", id);
+                            return new TaskNotFoundException(id);
+                        });
+
+                logger.debug("Found task: id={}, title='{}'", task.getId(), task.getTitle());
+                return task;
+
+            } catch (TaskNotFoundException e) {
+                throw e;  // Re-throw business exceptions as-is
+            } catch (DataAccessException e) {
+                logger.error("Failed to retrieve task {}: {}", id, e.getMessage());
+                throw new BusinessException("Failed to retrieve task", e);
+            }
+        });
     }
 
     /**
@@ -145,37 +311,41 @@ public class TaskService {
      * @throws DuplicateTaskException if new title conflicts with existing task
      */
     public Task updateTask(Long id, String title, String description) {
-        logger.info("Updating task id={}: title='{}', description length={}",
-                id, title, description != null ? description.length() : 0);
-
-        // First, find the existing task
-        Task task = getTaskById(id);
-
-        // If changing title, check for duplicates
-        if (title != null && !title.equals(task.getTitle())) {
-            if (taskRepository.existsByTitle(title)) {
-                logger.warn("Cannot update: duplicate title '{}'", title);
-                throw new DuplicateTaskException(title);
-            }
-            task.setTitle(title);
-        }
-
-        if (description != null) {
-            task.setDescription(description);
-        }
-
-        try {
-            Task updatedTask = taskRepository.update(task);
-            logger.info("Task updated successfully: id={}", id);
-            return updatedTask;
-
-        } catch (DataAccessException e) {
-            if (e.isUniqueConstraintViolation()) {
-                throw new DuplicateTaskException(title, e);
-            }
-            logger.error("Failed to update task {}: {}", id, e.getMessage());
-            throw new BusinessException("Failed to update task", e);
-        }
+        return timed(UPDATE_TASK_TIMER, () -> {
+            logger.info("Updating task id={}: title='{}', description length={}",
+                    id, title, description != null ? description.length() : 0);
+
+            return inTransaction(() -> {
+                // First, find (and optionally lock) the existing task
+                Task task = getTaskForUpdate(id);
+
+                // If changing title, check for duplicates
+                if (title != null && !title.equals(task.getTitle())) {
+                    if (taskRepository.existsByTitle(title)) {
+                        logger.warn("Cannot update: duplicate title '{}'", title);
+                        throw new DuplicateTaskException(title);
+                    }
+                    task.setTitle(title);
+                }
+
+                if (description != null) {
+                    task.setDescription(description);
+                }
+
+                try {
+                    Task updatedTask = taskRepository.update(task);
+                    logger.info("Task updated successfully: id={}", id);
+                    return updatedTask;
+
+                } catch (DataAccessException e) {
+                    if (e.isUniqueConstraintViolation()) {
+                        throw new DuplicateTaskException(title, e);
+                    }
+                    logger.error("Failed to update task {}: {}", id, e.getMessage());
+                    throw new BusinessException("Failed to update task", e);
+                }
+            });
+        });
     }
 
     /**
@@ -187,25 +357,29 @@ public class TaskService {
      * @throws TaskNotFoundException if task doesn't exist
      */
     public Task updateTaskStatus(Long id, TaskStatus newStatus) {
-        logger.info("Updating task {} status to {}", id, newStatus);
+        return timed(UPDATE_TASK_STATUS_TIMER, () -> {
+            logger.info("Updating task {} status to {}", id, newStatus);
 
-        Task task = getTaskById(id);
-        TaskStatus oldStatus = task.getStatus();
+            return inTransaction(() -> {
+                Task task = getTaskForUpdate(id);
+                TaskStatus oldStatus = task.getStatus();
 
-        // Business rule: validate status transitions (example)
-        validateStatusTransition(oldStatus, newStatus);
+                // Business rule: validate status transitions (example)
+                validateStatusTransition(oldStatus, newStatus);
 
-        task.setStatus(newStatus);
+                task.setStatus(newStatus);
 
-        try {
-            Task updatedTask = taskRepository.update(task);
-            logger.info("Task {} status changed: {} -> {}", id, oldStatus, newStatus);
-            return updatedTask;
+                try {
+                    Task updatedTask = taskRepository.update(task);
+                    logger.info("Task {} status changed: {} -> {}", id, oldStatus, newStatus);
+                    return updatedTask;
 
-        } catch (DataAccessException e) {
-            logger.error("Failed to update task {} status: {}", id, e.getMessage());
-            throw new BusinessException("Failed to update task status", e);
-        }
+                } catch (DataAccessException e) {
+                    logger.error("Failed to update task {} status: {}", id, e.getMessage());
+                    throw new BusinessException("Failed to update task status", e);
+                }
+            });
+        });
     }
 
     /**
@@ -215,23 +389,28 @@ public class TaskService {
      * @throws TaskNotFoundException if task doesn't exist
      */
     public void deleteTask(Long id) {
-        logger.info("Deleting task with id: {}", id);
-
-        // Verify task exists before deleting
-        Task task = getTaskById(id);
-
-        try {
-            boolean deleted = taskRepository.deleteById(id);
-            if (deleted) {
-                logger.info("Task deleted: id={}, title='{}'", id, task.getTitle());
-            } else {
-                logger.warn("Task {} was not deleted (may have been already removed)", id);
-            }
-
-        } catch (DataAccessException e) {
-            logger.error("Failed to delete task {}: {}", id, e.getMessage());
-            throw new BusinessException("Failed to delete task", e);
-        }
+        timed(DELETE_TASK_TIMER, () -> {
+            logger.info("Deleting task with id: {}", id);
+
+            return inTransaction(() -> {
+                // Verify task exists before deleting
+                Task task = getTaskForUpdate(id);
+
+                try {
+                    boolean deleted = taskRepository.deleteById(id);
+                    if (deleted) {
+                        logger.info("Task deleted: id={}, title='{}'", id, task.getTitle());
+                    } else {
+                        logger.warn("Task {} was not deleted (may have been already removed)", id);
+                    }
+
+                } catch (DataAccessException e) {
+                    logger.error("Failed to delete task {}: {}", id, e.getMessage());
+                    throw new BusinessException("Failed to delete task", e);
+                }
+                return null;
+            });
+        });
     }
 
     /**
@@ -241,17 +420,19 @@ public class TaskService {
      * @return List of tasks with the given status
      */
     public List<Task> getTasksByStatus(TaskStatus status) {
-        logger.debug("Retrieving tasks with status: {}", status);
+        return timed(GET_TASKS_BY_STATUS_TIMER, () -> {
+            logger.debug("Retrieving tasks with status: {}", status);
 
-        try {
-            List<Task> tasks = taskRepository.findByStatus(status);
-            logger.info("Retrieved {} tasks with status {}", tasks.size(), status);
-            return tasks;
+            try {
+                List<Task> tasks = taskRepository.findByStatus(status);
+                logger.info("Retrieved {} tasks with status {}", tasks.size(), status);
+                return tasks;
 
-        } catch (DataAccessException e) {
-            logger.error("Failed to retrieve tasks by status {}: {}", status, e.getMessage());
-            throw new BusinessException("Failed to retrieve tasks by status", e);
-        }
+            } catch (DataAccessException e) {
+                logger.error("Failed to retrieve tasks by status {}: {}", status, e.getMessage());
+                throw new BusinessException("Failed to retrieve tasks by status", e);
+            }
+        });
     }
 
     /**
@@ -268,6 +449,60 @@ public class TaskService {
         return updateTaskStatus(id, TaskStatus.IN_PROGRESS);
     }
 
+    /**
+     * Load a task that is about to be modified.
+     *
+     * With lockForUpdate the row is read with SELECT ... FOR UPDATE (bypassing
+     * any cache), so it stays locked until the surrounding transaction ends;
+     * every write then costs a locking read on the database. Without it the
+     * task comes from the repository, usually from the cache.
+     */
+    private Task getTaskForUpdate(Long id) {
+        if (!lockForUpdate) {
+            return getTaskById(id);
+        }
+
+        try {
+            return taskRepository.findByIdForUpdate(id)
+                    .orElseThrow(() -> {
+                        logger.warn("Task not found: id={}", id);
+                        return new TaskNotFoundException(id);
+                    });
+        } catch (DataAccessException e) {
+            logger.error("Failed to lock task {}: {}", id, e.getMessage());
+            throw new BusinessException("Failed to retrieve task", e);
+        }
+    }
+
+    /**
+     * Run the operation and record its duration, whether it returns or throws.
+     */
+    private static <T> T timed(Timer timer, Supplier<T> operation) {
+        long startTime = System.nanoTime();
+        try {
+            return operation.get();
+        } finally {
+            timer.recordSince(startTime);
+        }
+    }
+
+    /**
+     * Run the work in a transaction if a TransactionManager is configured.
+     * Business exceptions thrown by the work roll it back and propagate unchanged.
+     */
+    private <T> T inTransaction(TransactionManager.TransactionCallback<T> work) {
+        if (transactionManager == null) {
+            return work.doInTransaction();
+        }
+        try {
+            return transactionManager.inTransaction(work);
+        } catch (DataAccessException e) {
+            // Begin/commit failures (repository errors are already translated inside the work)
+            logger.error("Transaction failed: {}", e.getMessage());
+            throw new BusinessException("TRANSACTION_FAILED", "Failed to complete operation", e);
+        }
+    }
+
     /**
      * Validate status transitions.
      *
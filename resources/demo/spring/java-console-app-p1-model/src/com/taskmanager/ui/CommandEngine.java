@@ -0,0 +1,175 @@
+package com.taskmanager.ui;
+
+import com.taskmanager.controller.TaskController;
+import com.taskmanager.exception.BusinessException;
+import com.taskmanager.metrics.MetricFamily;
+import com.taskmanager.metrics.MetricsRegistry;
+import com.taskmanager.metrics.Timer;
+import com.taskmanager.model.TaskInput;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Headless replacement for ConsoleUI: executes a script of commands
+ * through TaskController on a pool of worker threads.
+ *
+ * Used as a load driver for the service/JDBC stack:
+ *
+ *   java ... com.taskmanager.Main --headless commands.txt
+ *   generate-commands.sh | java ... com.taskmanager.Main --headless -
+ *
+ * BOUNDED QUEUEING:
+ * The reader thread parses one line at a time and hands it to the pool.
+ * At most threads + queueCapacity commands are in flight; when that many
+ * are pending the reader blocks, so a huge script never sits in memory
+ * and the database sees a steady, bounded concurrency.
+ *
+ * Commands run in script order per submission but complete in any order;
+ * a script that creates and then updates the same task must not rely on
+ * ordering unless threads=1.
+ *
+ * Latency is measured per command (controller call only, not queue time)
+ * and summarized in the returned LoadReport.
+ */
+public class CommandEngine {
+    private static final Logger logger = LogManager.getLogger(CommandEngine.class);
+
+    private final TaskController controller;
+    private final int threads;
+    private final int queueCapacity;
+
+    public CommandEngine(TaskController controller, int threads, int queueCapacity) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be positive");
+        }
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException("queueCapacity must not be negative");
+        }
+        this.controller = controller;
+        this.threads = threads;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Execute every command read from the reader and wait for all of them.
+     *
+     * @param reader Command script (one command per line)
+     * @return Counts, throughput and latency percentiles of the run
+     */
+    public LoadReport run(BufferedReader reader) throws IOException, InterruptedException {
+        logger.info("Starting headless run: threads={}, queueCapacity={}", threads, queueCapacity);
+
+        MetricFamily<Timer> latencies = new MetricsRegistry().timers(
+                "taskmanager_command_duration_seconds", "Headless command duration", "command");
+        LongAdder succeeded = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        LongAdder failed = new LongAdder();
+        long invalid = 0;
+
+        // The semaphore is the bound; the executor's own queue never holds more
+        // than threads + queueCapacity tasks, so it can be unbounded (a bounded
+        // one could reject a task whose permit was released a moment too early)
+        Semaphore inFlight = new Semaphore(threads + queueCapacity);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), workerThreadFactory());
+
+        long startTime = System.nanoTime();
+        try {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                HeadlessCommand command;
+                try {
+                    command = HeadlessCommand.parse(line);
+                } catch (IllegalArgumentException e) {
+                    logger.warn("Skipping line {}: {}", lineNumber, e.getMessage());
+                    invalid++;
+                    continue;
+                }
+                if (command == null) {
+                    continue;
+                }
+
+                inFlight.acquire();
+                executor.execute(() -> {
+                    long commandStart = System.nanoTime();
+                    try {
+                        execute(command);
+                        succeeded.increment();
+                    } catch (BusinessException e) {
+                        logger.debug("Command {} rejected: {}", command.type(), e.getMessage());
+                        rejected.increment();
+                    } catch (RuntimeException e) {
+                        logger.error("Command {} failed: {}", command.type(), e.getMessage(), e);
+                        failed.increment();
+                    } finally {
+                        latencies.get(command.type().name()).recordSince(commandStart);
+                        inFlight.release();
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                logger.info("Waiting for {} running commands to finish...", executor.getActiveCount());
+            }
+        }
+        long elapsed = System.nanoTime() - startTime;
+
+        LoadReport report = new LoadReport(threads, succeeded.sum(), rejected.sum(), failed.sum(),
+                invalid, elapsed, latencies);
+        logger.info("Headless run finished: {} commands in {}ms ({} ops/s)",
+                report.getExecuted(), elapsed / 1_000_000, String.format("%.1f", report.getThroughput()));
+        return report;
+    }
+
+    private void execute(HeadlessCommand command) {
+        TaskInput input = command.input();
+        switch (command.type()) {
+            case CREATE:
+                controller.createTask(input);
+                break;
+            case GET:
+                controller.getTaskById(input.getId());
+                break;
+            case LIST:
+                if (input.getStatus() == null) {
+                    controller.getAllTasks();
+                } else {
+                    controller.getTasksByStatus(input.getStatus());
+                }
+                break;
+            case UPDATE:
+                controller.updateTask(input);
+                break;
+            case STATUS:
+                controller.updateTaskStatus(input.getId(), input.getStatus());
+                break;
+            case DELETE:
+                controller.deleteTask(input.getId());
+                break;
+            default:
+                throw new IllegalStateException("Unhandled command: " + command.type());
+        }
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "command-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
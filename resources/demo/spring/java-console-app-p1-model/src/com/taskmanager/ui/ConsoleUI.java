@@ -8,7 +8,6 @@ import com.taskmanager.model.TaskView;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.List;
 
 /**
  * Console-based user interface for the Task Manager.
@@ -46,12 +45,21 @@ public class ConsoleUI {
     private final TaskController controller;
     private final InputHandler inputHandler;
     private final OutputRenderer outputRenderer;
+    private final int pageSize;
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
 
     public ConsoleUI(TaskController controller, InputHandler inputHandler, OutputRenderer outputRenderer) {
+        this(controller, inputHandler, outputRenderer, DEFAULT_PAGE_SIZE);
+    }
+
+    public ConsoleUI(TaskController controller, InputHandler inputHandler, OutputRenderer outputRenderer,
+                     int pageSize) {
         this.controller = controller;
         this.inputHandler = inputHandler;
         this.outputRenderer = outputRenderer;
-        logger.info("ConsoleUI initialized");
+        this.pageSize = pageSize > 0 ? pageSize : DEFAULT_PAGE_SIZE;
+        logger.info("ConsoleUI initialized (pageSize={})", this.pageSize);
     }
 
     /**
@@ -126,11 +134,8 @@ public class ConsoleUI {
     private void handleListAllTasks() {
         logger.info("Handling: List All Tasks");
 
-        // Controller returns list of views
-        List<TaskView> tasks = controller.getAllTasks();
-
-        // Render the list
-        outputRenderer.showTaskList(tasks, "ALL TASKS");
+        // Controller streams views page by page, renderer prints each page as it arrives
+        streamTaskTable(null, "ALL TASKS");
     }
 
     /**
@@ -219,10 +224,29 @@ public class ConsoleUI {
         // Collect status filter
         String status = inputHandler.collectStatusFilter();
 
-        // Controller returns filtered list
-        List<TaskView> tasks = controller.getTasksByStatus(status);
+        // Controller streams filtered views, renderer prints them page by page
+        streamTaskTable(status, "TASKS - " + status);
+    }
 
-        // Render filtered list
-        outputRenderer.showTaskList(tasks, "TASKS - " + status);
+    /**
+     * Render a task table from a stream of pages.
+     * Memory stays flat: only one page of views exists at a time.
+     */
+    private void streamTaskTable(String status, String title) {
+        boolean[] headerShown = {false};
+
+        long total = controller.streamTasks(status, pageSize, page -> {
+            if (!headerShown[0]) {
+                outputRenderer.showTaskTableHeader(title);
+                headerShown[0] = true;
+            }
+            outputRenderer.showTaskRows(page);
+        });
+
+        if (total == 0) {
+            outputRenderer.showNoTasks();
+        } else {
+            outputRenderer.showTaskTableFooter(total);
+        }
     }
 }
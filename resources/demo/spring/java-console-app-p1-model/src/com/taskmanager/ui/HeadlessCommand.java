@@ -0,0 +1,99 @@
+package com.taskmanager.ui;
+
+import com.taskmanager.model.TaskInput;
+
+/**
+ * One line of a headless command script, parsed into a TaskInput.
+ *
+ * Format (fields separated by '|', blank lines and '#' comments ignored):
+ *   CREATE|title|description
+ *   GET|id
+ *   LIST
+ *   LIST|status
+ *   UPDATE|id|title|description
+ *   STATUS|id|status
+ *   DELETE|id
+ *
+ * The id is passed through unvalidated (a non-numeric id is a parse
+ * error); title, description and status are validated by TaskController
+ * exactly as in the interactive UI.
+ */
+public record HeadlessCommand(Type type, TaskInput input) {
+
+    public enum Type {
+        CREATE, GET, LIST, UPDATE, STATUS, DELETE
+    }
+
+    /**
+     * Parse a script line.
+     *
+     * @return the command, or null for a blank or comment line
+     * @throws IllegalArgumentException if the line is malformed
+     */
+    public static HeadlessCommand parse(String line) {
+        String trimmed = line.trim();
+        if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+            return null;
+        }
+
+        String[] fields = trimmed.split("\\|", -1);
+        Type type;
+        try {
+            type = Type.valueOf(fields[0].trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown command: " + fields[0]);
+        }
+
+        TaskInput input = new TaskInput();
+        switch (type) {
+            case CREATE:
+                requireFields(fields, 2, line);
+                input.setTitle(fields[1]);
+                input.setDescription(field(fields, 2));
+                break;
+            case GET:
+            case DELETE:
+                requireFields(fields, 2, line);
+                input.setId(parseId(fields[1]));
+                break;
+            case LIST:
+                input.setStatus(field(fields, 1));
+                break;
+            case UPDATE:
+                requireFields(fields, 2, line);
+                input.setId(parseId(fields[1]));
+                input.setTitle(field(fields, 2));
+                input.setDescription(field(fields, 3));
+                break;
+            case STATUS:
+                requireFields(fields, 3, line);
+                input.setId(parseId(fields[1]));
+                input.setStatus(fields[2]);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported command: " + type);
+        }
+        return new HeadlessCommand(type, input);
+    }
+
+    private static void requireFields(String[] fields, int count, String line) {
+        if (fields.length < count) {
+            throw new IllegalArgumentException("Expected " + count + " fields: " + line);
+        }
+    }
+
+    private static String field(String[] fields, int index) {
+        if (index >= fields.length || fields[index].isBlank()) {
+            return null;
+        }
+        return fields[index];
+    }
+
+    private static Long parseId(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid task id: " + value);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.taskmanager.ui;
+
+import com.taskmanager.metrics.MetricFamily;
+import com.taskmanager.metrics.Timer;
+
+/**
+ * Outcome of one CommandEngine run: counts, throughput and latency
+ * percentiles per command type.
+ *
+ * - succeeded: the controller returned normally
+ * - rejected:  a BusinessException (validation, not found, duplicate...)
+ * - failed:    any other exception
+ * - invalid:   script lines that could not be parsed (not executed)
+ */
+public class LoadReport {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final int threads;
+    private final long succeeded;
+    private final long rejected;
+    private final long failed;
+    private final long invalid;
+    private final long elapsedNanos;
+    private final MetricFamily<Timer> latencies;
+
+    LoadReport(int threads, long succeeded, long rejected, long failed, long invalid,
+               long elapsedNanos, MetricFamily<Timer> latencies) {
+        this.threads = threads;
+        this.succeeded = succeeded;
+        this.rejected = rejected;
+        this.failed = failed;
+        this.invalid = invalid;
+        this.elapsedNanos = elapsedNanos;
+        this.latencies = latencies;
+    }
+
+    public long getExecuted() {
+        return succeeded + rejected + failed;
+    }
+
+    public long getSucceeded() {
+        return succeeded;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public long getInvalid() {
+        return invalid;
+    }
+
+    public double getElapsedSeconds() {
+        return elapsedNanos / 1_000_000_000.0;
+    }
+
+    /**
+     * Executed commands per second over the whole run.
+     */
+    public double getThroughput() {
+        return elapsedNanos > 0 ? getExecuted() / getElapsedSeconds() : 0;
+    }
+
+    /**
+     * Latency timer for one command type (count is 0 if none ran).
+     */
+    public Timer getLatency(HeadlessCommand.Type type) {
+        return latencies.get(type.name());
+    }
+
+    /**
+     * Multi-line summary for the console.
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Executed %d commands on %d threads in %.2fs (%.1f ops/s)%n",
+                getExecuted(), threads, getElapsedSeconds(), getThroughput()));
+        sb.append(String.format("  succeeded=%d rejected=%d failed=%d invalid=%d%n",
+                succeeded, rejected, failed, invalid));
+        sb.append(String.format("  %-8s %8s %10s %10s %10s %10s%n",
+                "command", "count", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (HeadlessCommand.Type type : HeadlessCommand.Type.values()) {
+            Timer timer = getLatency(type);
+            if (timer.getCount() == 0) {
+                continue;
+            }
+            sb.append(String.format("  %-8s %8d %10.3f %10.3f %10.3f %10.3f%n",
+                    type, timer.getCount(),
+                    timer.percentile(0.50) / NANOS_PER_MILLI,
+                    timer.percentile(0.95) / NANOS_PER_MILLI,
+                    timer.percentile(0.99) / NANOS_PER_MILLI,
+                    timer.getMaxNanos() / NANOS_PER_MILLI));
+        }
+        return sb.toString();
+    }
+}
@@ -39,6 +39,8 @@ public class OutputRenderer {
     private static final String TEE_LEFT = "├";
     private static final String TEE_RIGHT = "┤";
 
+    private static final int TABLE_WIDTH = 70;
+
     public OutputRenderer() {
         logger.info("OutputRenderer initialized");
     }
@@ -82,23 +84,41 @@ public class OutputRenderer {
     public void showTaskList(List<TaskView> tasks, String title) {
         logger.debug("Rendering task list: {} items", tasks.size());
 
-        System.out.println();
         if (tasks.isEmpty()) {
-            showInfo("No tasks found.");
+            showNoTasks();
             return;
         }
 
-        int width = 70;
-        System.out.println(CORNER_TL + HORIZONTAL.repeat(width) + CORNER_TR);
-        System.out.println(VERTICAL + centerText(title, width) + VERTICAL);
-        System.out.println(TEE_LEFT + HORIZONTAL.repeat(width) + TEE_RIGHT);
+        showTaskTableHeader(title);
+        showTaskRows(tasks);
+        showTaskTableFooter(tasks.size());
+    }
+
+    // ==================== Streaming Task Table ====================
+    // For large listings the table is rendered in parts: header once,
+    // rows page by page as they arrive, footer with the final count.
+
+    /**
+     * Display the title and column headers of the task table.
+     */
+    public void showTaskTableHeader(String title) {
+        System.out.println();
+        System.out.println(CORNER_TL + HORIZONTAL.repeat(TABLE_WIDTH) + CORNER_TR);
+        System.out.println(VERTICAL + centerText(title, TABLE_WIDTH) + VERTICAL);
+        System.out.println(TEE_LEFT + HORIZONTAL.repeat(TABLE_WIDTH) + TEE_RIGHT);
 
         // Header row
         System.out.printf(VERTICAL + " %-5s " + VERTICAL + " %-30s " + VERTICAL + " %-12s " + VERTICAL + " %-15s " + VERTICAL + "%n",
                 "ID", "Title", "Status", "Created");
-        System.out.println(TEE_LEFT + HORIZONTAL.repeat(width) + TEE_RIGHT);
+        System.out.println(TEE_LEFT + HORIZONTAL.repeat(TABLE_WIDTH) + TEE_RIGHT);
+    }
+
+    /**
+     * Display one page of task rows.
+     */
+    public void showTaskRows(List<TaskView> tasks) {
+        logger.debug("Rendering {} task rows", tasks.size());
 
-        // Data rows
         for (TaskView task : tasks) {
             System.out.printf(VERTICAL + " %-5d " + VERTICAL + " %-30s " + VERTICAL + " %-12s " + VERTICAL + " %-15s " + VERTICAL + "%n",
                     task.getId(),
@@ -106,9 +126,22 @@ public class OutputRenderer {
                     task.getStatusDisplay(),
                     truncate(task.getCreatedAt(), 15));
         }
+    }
 
-        System.out.println(CORNER_BL + HORIZONTAL.repeat(width) + CORNER_BR);
-        System.out.println("Total: " + tasks.size() + " task(s)");
+    /**
+     * Close the task table and show the total.
+     */
+    public void showTaskTableFooter(long total) {
+        System.out.println(CORNER_BL + HORIZONTAL.repeat(TABLE_WIDTH) + CORNER_BR);
+        System.out.println("Total: " + total + " task(s)");
+    }
+
+    /**
+     * Display the empty-list message.
+     */
+    public void showNoTasks() {
+        System.out.println();
+        showInfo("No tasks found.");
     }
 
     /**
@@ -0,0 +1,116 @@
+package com.example.apigateway.cache;
+
+import com.example.apigateway.service.JwtService;
+import com.example.apigateway.service.JwtService.VerifiedToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Tokens that passed verification, so a client sending the same bearer
+ * token again skips the signature check and claims parse.
+ *
+ * - keyed by the SHA-256 of the token, so tokens themselves are not kept
+ * - an entry expires when its token does (exp claim)
+ * - at most max-size entries; invalid tokens are never cached
+ *
+ * Hits and misses are exported as cache.* metrics (cache=jwt-tokens),
+ * the hit rate as jwt.token.cache.hit.rate.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(VerifiedTokenCache.class);
+
+    private final JwtService jwtService;
+    private final Cache<ByteBuffer, VerifiedToken> cache;
+
+    public VerifiedTokenCache(JwtService jwtService,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.token-cache.max-size:10000}") long maxSize) {
+        this.jwtService = jwtService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpires())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt-tokens");
+        Gauge.builder("jwt.token.cache.hit.rate", cache, c -> c.stats().hitRate())
+                .description("Share of requests whose token was already verified")
+                .register(meterRegistry);
+        logger.info("Verified token cache: maxSize={}", maxSize);
+    }
+
+    /**
+     * The verified token, from the cache or by verifying it.
+     *
+     * @return null if the token is invalid or expired
+     */
+    public VerifiedToken verify(String token) {
+        ByteBuffer key = hash(token);
+        VerifiedToken verified = cache.getIfPresent(key);
+        // Expiry is checked again: the cache evicts lazily
+        if (verified != null && verified.expiresAt().isAfter(Instant.now())) {
+            return verified;
+        }
+
+        verified = jwtService.verify(token);
+        if (verified != null) {
+            cache.put(key, verified);
+        }
+        return verified;
+    }
+
+    private static ByteBuffer hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            // ByteBuffer compares by content, unlike byte[]
+            return ByteBuffer.wrap(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class UntilTokenExpires implements Expiry<ByteBuffer, VerifiedToken> {
+
+        // Keeps far-off exp claims within Caffeine's nanosecond range
+        private static final Duration MAX_EXPIRY = Duration.ofDays(365);
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken token, long currentTime) {
+            Duration remaining = Duration.between(Instant.now(), token.expiresAt());
+            if (remaining.isNegative()) {
+                return 0;
+            }
+            return remaining.compareTo(MAX_EXPIRY) > 0 ? MAX_EXPIRY.toNanos() : remaining.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken token, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken token, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.apigateway.filter;
 
-import com.example.apigateway.service.JwtService;
+import com.example.apigateway.cache.VerifiedTokenCache;
+import com.example.apigateway.service.JwtService.VerifiedToken;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
@@ -21,11 +22,11 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
-    private final JwtService jwtService;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final RouteValidator routeValidator;
 
-    public JwtAuthenticationFilter(JwtService jwtService, RouteValidator routeValidator) {
-        this.jwtService = jwtService;
+    public JwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache, RouteValidator routeValidator) {
+        this.verifiedTokenCache = verifiedTokenCache;
         this.routeValidator = routeValidator;
     }
 
@@ -55,13 +56,15 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
         String token = authHeader.substring(7);
 
         try {
-            if (!jwtService.isTokenValid(token)) {
+            // Verified once per token, then served from the cache until it expires
+            VerifiedToken verified = verifiedTokenCache.verify(token);
+            if (verified == null) {
                 logger.warn("Invalid or expired token for path: {}", path);
                 return onError(exchange, "Invalid or expired token", HttpStatus.UNAUTHORIZED);
             }
 
-            // Extract username and add to request headers for downstream services
-            String username = jwtService.extractUsername(token);
+            // Add username to request headers for downstream services
+            String username = verified.username();
             ServerHttpRequest modifiedRequest = request.mutate()
                     .header("X-User-Email", username)
                     .build();
@@ -1,47 +1,70 @@
 package com.example.apigateway.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
-import java.util.Date;
+import java.time.Instant;
+import java.util.Base64;
 
+/**
+ * Verifies tokens issued by user-service (shared secret).
+ *
+ * The signing key and parser are built once; JwtParser is immutable and
+ * thread-safe. Each verification (signature check and claims parse) is
+ * timed as jwt.verification.
+ */
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    /** Claims the gateway needs from a verified token. */
+    public record VerifiedToken(String username, Instant expiresAt) {
+    }
 
-    public String extractUsername(String token) {
-        return extractAllClaims(token).getSubject();
+    private final JwtParser parser;
+    private final Timer verificationTimer;
+
+    public JwtService(@Value("${jwt.secret}") String secretKey, MeterRegistry meterRegistry) {
+        SecretKey signingKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKey));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.verificationTimer = Timer.builder("jwt.verification")
+                .description("Time to verify a JWT signature and parse its claims")
+                .register(meterRegistry);
     }
 
-    public boolean isTokenValid(String token) {
+    /**
+     * Verify the token's signature and expiry.
+     *
+     * @return the token's subject and expiry, or null if the token is invalid or expired
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims;
         try {
-            Claims claims = extractAllClaims(token);
-            return !isTokenExpired(claims);
+            claims = verificationTimer.record(() -> parser.parseSignedClaims(token).getPayload());
         } catch (Exception e) {
-            return false;
+            return null;
         }
+        // The parser rejects expired tokens; user-service always sets exp
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            return null;
+        }
+        return new VerifiedToken(claims.getSubject(), claims.getExpiration().toInstant());
     }
 
-    private boolean isTokenExpired(Claims claims) {
-        return claims.getExpiration().before(new Date());
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public String extractUsername(String token) {
+        VerifiedToken verified = verify(token);
+        return verified != null ? verified.username() : null;
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = java.util.Base64.getDecoder().decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public boolean isTokenValid(String token) {
+        return verify(token) != null;
     }
 }
@@ -1,13 +1,24 @@
 package com.example.notificationservice.controller;
 
+import com.example.notificationservice.dto.NotificationRequest;
 import com.example.notificationservice.model.Notification;
 import com.example.notificationservice.service.NotificationService;
+import com.example.notificationservice.stream.NotificationStreams;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -17,31 +28,79 @@ public class NotificationController {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationController.class);
 
+    // Upper bound for POST /api/notifications/batch
+    static final int MAX_BATCH_SIZE = 1000;
+
+    // Upper bound for the size parameter of GET /api/notifications
+    static final int MAX_PAGE_SIZE = 1000;
+
     private final NotificationService notificationService;
+    private final NotificationStreams notificationStreams;
+    private final ObjectReader ndjsonReader;
 
-    public NotificationController(NotificationService notificationService) {
+    public NotificationController(NotificationService notificationService,
+                                  NotificationStreams notificationStreams, ObjectMapper objectMapper) {
         this.notificationService = notificationService;
+        this.notificationStreams = notificationStreams;
+        this.ndjsonReader = objectMapper.readerFor(NotificationRequest.class);
     }
 
+    /**
+     * Notifications ordered by createdAt. Without size, all of them;
+     * with size, page number page (from 0) of that size.
+     */
     @GetMapping
     public ResponseEntity<List<Notification>> getAllNotifications(
             @RequestParam(required = false) Long userId,
-            @RequestParam(required = false) Long taskId) {
-        logger.debug("GET /api/notifications - userId: {}, taskId: {}", userId, taskId);
+            @RequestParam(required = false) Long taskId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size) {
+        logger.debug("GET /api/notifications - userId: {}, taskId: {}, page: {}, size: {}",
+                userId, taskId, page, size);
+
+        if (size != null && (page < 0 || size < 1 || size > MAX_PAGE_SIZE)) {
+            return ResponseEntity.badRequest().build();
+        }
 
         List<Notification> notifications;
 
         if (userId != null) {
-            notifications = notificationService.getNotificationsByUserId(userId);
+            notifications = size == null
+                    ? notificationService.getNotificationsByUserId(userId)
+                    : notificationService.getNotificationsByUserId(userId, page, size);
         } else if (taskId != null) {
-            notifications = notificationService.getNotificationsByTaskId(taskId);
+            notifications = size == null
+                    ? notificationService.getNotificationsByTaskId(taskId)
+                    : notificationService.getNotificationsByTaskId(taskId, page, size);
         } else {
-            notifications = notificationService.getAllNotifications();
+            notifications = size == null
+                    ? notificationService.getAllNotifications()
+                    : notificationService.getAllNotifications(page, size);
         }
 
         return ResponseEntity.ok(notifications);
     }
 
+    /**
+     * Stream the user's new notifications as server-sent events. A client
+     * reconnecting with Last-Event-ID first gets what it missed meanwhile.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamNotifications(
+            @RequestParam Long userId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        logger.debug("GET /api/notifications/stream - userId: {}, Last-Event-ID: {}", userId, lastEventId);
+
+        SseEmitter emitter = notificationStreams.subscribe(userId, () -> lastEventId == null
+                ? List.of()
+                : notificationService.getNotificationsByUserIdAfter(
+                        userId, lastEventId, notificationStreams.getBufferSize()));
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Notification> getNotificationById(@PathVariable Long id) {
         logger.debug("GET /api/notifications/{}", id);
@@ -53,28 +112,79 @@ public class NotificationController {
 
     @PostMapping
     public ResponseEntity<Notification> createNotification(
-            @RequestBody Map<String, Object> request) {
-        logger.debug("POST /api/notifications - request: {}", request);
-
-        String type = (String) request.get("type");
-        String message = (String) request.get("message");
-        Long userId = request.get("userId") != null
-                ? ((Number) request.get("userId")).longValue()
-                : null;
-        Long taskId = request.get("taskId") != null
-                ? ((Number) request.get("taskId")).longValue()
-                : null;
-
-        if (type == null || message == null) {
+            @RequestBody NotificationRequest request) {
+        logger.debug("POST /api/notifications - type: {}, userId: {}, taskId: {}",
+                request.getType(), request.getUserId(), request.getTaskId());
+
+        if (!request.isValid()) {
             return ResponseEntity.badRequest().build();
         }
 
+        // dedupKey is set by task-service's outbox, which may send the same notification more than once
         Notification notification = notificationService.createNotification(
-                type, message, userId, taskId);
+                request.getType(), request.getMessage(), request.getUserId(), request.getTaskId(),
+                request.getDedupKey());
 
         return ResponseEntity.status(HttpStatus.CREATED).body(notification);
     }
 
+    /**
+     * Create many notifications with one request, sent as a JSON array.
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> createNotifications(
+            @RequestBody List<NotificationRequest> requests) {
+        logger.debug("POST /api/notifications/batch - {} notifications", requests.size());
+        return createBatch(requests);
+    }
+
+    /**
+     * Create many notifications with one request, sent as NDJSON
+     * (one notification object per line).
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<?> createNotificationsFromNdjson(InputStream body)
+            throws IOException {
+        List<NotificationRequest> requests = new ArrayList<>();
+        try (MappingIterator<NotificationRequest> lines = ndjsonReader.readValues(body)) {
+            while (lines.hasNextValue()) {
+                if (requests.size() == MAX_BATCH_SIZE) {
+                    return tooLarge();
+                }
+                requests.add(lines.nextValue());
+            }
+        } catch (JsonProcessingException e) {
+            logger.warn("Rejecting NDJSON batch: {}", e.getOriginalMessage());
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Malformed NDJSON: " + e.getOriginalMessage()));
+        }
+
+        logger.debug("POST /api/notifications/batch (NDJSON) - {} notifications", requests.size());
+        return createBatch(requests);
+    }
+
+    private ResponseEntity<?> createBatch(List<NotificationRequest> requests) {
+        if (requests.size() > MAX_BATCH_SIZE) {
+            return tooLarge();
+        }
+        for (NotificationRequest request : requests) {
+            if (request == null || !request.isValid()) {
+                return ResponseEntity.badRequest()
+                        .body(Map.of("error", "Every notification needs a type and a message"));
+            }
+        }
+
+        int created = notificationService.createNotifications(requests);
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of(
+                "received", requests.size(),
+                "created", created));
+    }
+
+    private ResponseEntity<?> tooLarge() {
+        return ResponseEntity.badRequest()
+                .body(Map.of("error", "At most " + MAX_BATCH_SIZE + " notifications per request"));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteNotification(@PathVariable Long id) {
         logger.debug("DELETE /api/notifications/{}", id);
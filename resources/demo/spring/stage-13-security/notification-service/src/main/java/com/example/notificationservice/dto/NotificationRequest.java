@@ -0,0 +1,70 @@
+package com.example.notificationservice.dto;
+
+public class NotificationRequest {
+
+    private String type;
+
+    private String message;
+
+    private Long userId;
+
+    private Long taskId;
+
+    // Set by senders that may retry; repeats of a key are ignored
+    private String dedupKey;
+
+    public NotificationRequest() {
+    }
+
+    public NotificationRequest(String type, String message, Long userId, Long taskId) {
+        this.type = type;
+        this.message = message;
+        this.userId = userId;
+        this.taskId = taskId;
+    }
+
+    public boolean isValid() {
+        return type != null && message != null;
+    }
+
+    // Getters and Setters
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public String getDedupKey() {
+        return dedupKey;
+    }
+
+    public void setDedupKey(String dedupKey) {
+        this.dedupKey = dedupKey;
+    }
+}
@@ -12,6 +12,7 @@ public class Notification {
     private String message;
     private Long userId;
     private Long taskId;
+    private String dedupKey;
     private LocalDateTime createdAt;
     private boolean sent;
 
@@ -29,6 +30,35 @@ public class Notification {
         this.taskId = taskId;
     }
 
+    private Notification(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * A notification read back from storage. Keeps its id instead of
+     * taking a new one.
+     */
+    public static Notification restore(Long id, String type, String message, Long userId, Long taskId,
+                                       String dedupKey, LocalDateTime createdAt, boolean sent) {
+        Notification notification = new Notification(id);
+        notification.type = type;
+        notification.message = message;
+        notification.userId = userId;
+        notification.taskId = taskId;
+        notification.dedupKey = dedupKey;
+        notification.createdAt = createdAt;
+        notification.sent = sent;
+        return notification;
+    }
+
+    /**
+     * Continue id generation after the given id (the highest ever stored,
+     * see NotificationStore), so ids stay unique across restarts.
+     */
+    public static void resumeIdsAfter(long id) {
+        ID_GENERATOR.accumulateAndGet(id + 1, Math::max);
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -70,6 +100,14 @@ public class Notification {
         this.taskId = taskId;
     }
 
+    public String getDedupKey() {
+        return dedupKey;
+    }
+
+    public void setDedupKey(String dedupKey) {
+        this.dedupKey = dedupKey;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -1,59 +1,159 @@
 package com.example.notificationservice.service;
 
+import com.example.notificationservice.dto.NotificationRequest;
 import com.example.notificationservice.model.Notification;
+import com.example.notificationservice.store.NotificationStore;
+import com.example.notificationservice.stream.NotificationStreams;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
+/**
+ * Creates, sends and queries notifications.
+ *
+ * Notifications are kept in NotificationStore: a segment log on disk with
+ * in-memory indexes by user and by task, ordered by createdAt, so per-user
+ * and per-task reads touch only the matching notifications and a page is
+ * read by walking the index. New notifications are also pushed to the
+ * user's open streams (NotificationStreams).
+ */
 @Service
 public class NotificationService {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
 
-    private final Map<Long, Notification> notificationStore = new ConcurrentHashMap<>();
+    // Creates with the same dedup key are serialized on one of these
+    private static final int DEDUP_LOCK_STRIPES = 64;
+
+    private final NotificationStore notificationStore;
+    private final NotificationStreams notificationStreams;
+    private final Object[] dedupLocks = new Object[DEDUP_LOCK_STRIPES];
+
+    public NotificationService(NotificationStore notificationStore, NotificationStreams notificationStreams) {
+        this.notificationStore = notificationStore;
+        this.notificationStreams = notificationStreams;
+        for (int i = 0; i < dedupLocks.length; i++) {
+            dedupLocks[i] = new Object();
+        }
+    }
 
     public List<Notification> getAllNotifications() {
         logger.debug("Fetching all notifications, count: {}", notificationStore.size());
-        return new ArrayList<>(notificationStore.values());
+        return notificationStore.findAll();
+    }
+
+    /**
+     * One page of all notifications, ordered by createdAt.
+     */
+    public List<Notification> getAllNotifications(int page, int size) {
+        logger.debug("Fetching notifications page {} (size {})", page, size);
+        return notificationStore.findAll(page, size);
     }
 
     public Optional<Notification> getNotificationById(Long id) {
         logger.debug("Fetching notification with id: {}", id);
-        return Optional.ofNullable(notificationStore.get(id));
+        return notificationStore.get(id);
     }
 
     public List<Notification> getNotificationsByUserId(Long userId) {
         logger.debug("Fetching notifications for user: {}", userId);
-        return notificationStore.values().stream()
-                .filter(n -> userId.equals(n.getUserId()))
-                .collect(Collectors.toList());
+        return notificationStore.findByUserId(userId, 0, Integer.MAX_VALUE);
+    }
+
+    public List<Notification> getNotificationsByUserId(Long userId, int page, int size) {
+        logger.debug("Fetching notifications for user: {}, page {} (size {})", userId, page, size);
+        return notificationStore.findByUserId(userId, page, size);
+    }
+
+    /**
+     * The user's notifications created after the one with id afterId
+     * (at most limit of the newest), oldest first.
+     */
+    public List<Notification> getNotificationsByUserIdAfter(Long userId, long afterId, int limit) {
+        logger.debug("Fetching notifications for user: {} after id {}", userId, afterId);
+        return notificationStore.findByUserIdAfter(userId, afterId, limit);
     }
 
     public List<Notification> getNotificationsByTaskId(Long taskId) {
         logger.debug("Fetching notifications for task: {}", taskId);
-        return notificationStore.values().stream()
-                .filter(n -> taskId.equals(n.getTaskId()))
-                .collect(Collectors.toList());
+        return notificationStore.findByTaskId(taskId, 0, Integer.MAX_VALUE);
+    }
+
+    public List<Notification> getNotificationsByTaskId(Long taskId, int page, int size) {
+        logger.debug("Fetching notifications for task: {}, page {} (size {})", taskId, page, size);
+        return notificationStore.findByTaskId(taskId, page, size);
     }
 
     public Notification createNotification(String type, String message, Long userId, Long taskId) {
+        return createNotification(type, message, userId, taskId, null);
+    }
+
+    /**
+     * Create a notification, unless one with the same dedup key exists;
+     * then that one is returned and nothing is sent.
+     */
+    public Notification createNotification(String type, String message, Long userId, Long taskId,
+                                           String dedupKey) {
+        boolean[] created = new boolean[1];
+        Notification notification = createOrFind(type, message, userId, taskId, dedupKey, created);
+        if (!created[0]) {
+            logger.info("Ignoring duplicate notification {}", dedupKey);
+        }
+        return notification;
+    }
+
+    /**
+     * Create a batch of notifications in one pass, skipping those whose
+     * dedup key has been seen.
+     *
+     * @return number of notifications created
+     */
+    public int createNotifications(List<NotificationRequest> requests) {
+        int created = 0;
+        boolean[] wasCreated = new boolean[1];
+        for (NotificationRequest request : requests) {
+            createOrFind(request.getType(), request.getMessage(), request.getUserId(),
+                    request.getTaskId(), request.getDedupKey(), wasCreated);
+            if (wasCreated[0]) {
+                created++;
+            }
+        }
+        logger.info("Created {} of {} notifications ({} duplicates)",
+                created, requests.size(), requests.size() - created);
+        return created;
+    }
+
+    private Notification createOrFind(String type, String message, Long userId, Long taskId,
+                                      String dedupKey, boolean[] created) {
+        if (dedupKey == null) {
+            created[0] = true;
+            return create(type, message, userId, taskId, null);
+        }
+
+        synchronized (dedupLocks[Math.floorMod(dedupKey.hashCode(), DEDUP_LOCK_STRIPES)]) {
+            Notification existing = notificationStore.findByDedupKey(dedupKey);
+            created[0] = existing == null;
+            return existing != null ? existing : create(type, message, userId, taskId, dedupKey);
+        }
+    }
+
+    private Notification create(String type, String message, Long userId, Long taskId, String dedupKey) {
         logger.info("Creating notification - type: {}, userId: {}, taskId: {}", type, userId, taskId);
 
         Notification notification = new Notification(type, message, userId, taskId);
+        notification.setDedupKey(dedupKey);
 
         // Simulate sending notification
         sendNotification(notification);
 
-        notificationStore.put(notification.getId(), notification);
+        notificationStore.append(notification);
         logger.info("Created notification with id: {}", notification.getId());
 
+        notificationStreams.publish(notification);
+
         return notification;
     }
 
@@ -71,7 +171,7 @@ public class NotificationService {
 
     public boolean deleteNotification(Long id) {
         logger.info("Deleting notification with id: {}", id);
-        return notificationStore.remove(id) != null;
+        return notificationStore.delete(id);
     }
 
     public void clearAllNotifications() {
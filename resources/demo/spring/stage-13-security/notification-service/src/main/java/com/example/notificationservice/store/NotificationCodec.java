@@ -0,0 +1,125 @@
+package com.example.notificationservice.store;
+
+import com.example.notificationservice.model.Notification;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Binary form of the records in the notification log.
+ *
+ * PUT:    op=1, id, createdAt (epoch seconds + nanos), sent, userId?, taskId?,
+ *         type, message, dedupKey?
+ * DELETE: op=2, id, segment of the deleted PUT
+ *
+ * Optional longs are a presence byte followed by the value; strings are a
+ * length (-1 for null) followed by UTF-8 bytes.
+ */
+final class NotificationCodec {
+
+    static final byte PUT = 1;
+    static final byte DELETE = 2;
+
+    private NotificationCodec() {
+    }
+
+    static byte[] encodePut(Notification notification) {
+        byte[] type = utf8(notification.getType());
+        byte[] message = utf8(notification.getMessage());
+        byte[] dedupKey = utf8(notification.getDedupKey());
+
+        int size = 1 + 8 + 8 + 4 + 1 + 9 + 9
+                + stringSize(type) + stringSize(message) + stringSize(dedupKey);
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(PUT);
+        buffer.putLong(notification.getId());
+        LocalDateTime createdAt = notification.getCreatedAt();
+        buffer.putLong(createdAt.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(createdAt.getNano());
+        buffer.put((byte) (notification.isSent() ? 1 : 0));
+        putOptionalLong(buffer, notification.getUserId());
+        putOptionalLong(buffer, notification.getTaskId());
+        putString(buffer, type);
+        putString(buffer, message);
+        putString(buffer, dedupKey);
+        return buffer.array();
+    }
+
+    static byte[] encodeDelete(long id, long segmentId) {
+        return ByteBuffer.allocate(1 + 8 + 8)
+                .put(DELETE)
+                .putLong(id)
+                .putLong(segmentId)
+                .array();
+    }
+
+    static byte op(byte[] record) {
+        return record[0];
+    }
+
+    static Notification decodePut(byte[] record) {
+        ByteBuffer buffer = ByteBuffer.wrap(record, 1, record.length - 1);
+        long id = buffer.getLong();
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        boolean sent = buffer.get() == 1;
+        Long userId = getOptionalLong(buffer);
+        Long taskId = getOptionalLong(buffer);
+        String type = getString(buffer);
+        String message = getString(buffer);
+        String dedupKey = getString(buffer);
+        return Notification.restore(id, type, message, userId, taskId, dedupKey,
+                LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC), sent);
+    }
+
+    /** Id of a PUT or DELETE record. */
+    static long id(byte[] record) {
+        return ByteBuffer.wrap(record, 1, 8).getLong();
+    }
+
+    /** Segment of the PUT a DELETE record removes. */
+    static long deletedSegmentId(byte[] record) {
+        return ByteBuffer.wrap(record, 9, 8).getLong();
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int stringSize(byte[] bytes) {
+        return 4 + (bytes != null ? bytes.length : 0);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private static void putOptionalLong(ByteBuffer buffer, Long value) {
+        buffer.put((byte) (value != null ? 1 : 0));
+        buffer.putLong(value != null ? value : 0L);
+    }
+
+    private static Long getOptionalLong(ByteBuffer buffer) {
+        boolean present = buffer.get() == 1;
+        long value = buffer.getLong();
+        return present ? value : null;
+    }
+}
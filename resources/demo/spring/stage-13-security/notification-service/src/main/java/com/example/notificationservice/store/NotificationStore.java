@@ -0,0 +1,570 @@
+package com.example.notificationservice.store;
+
+import com.example.notificationservice.model.Notification;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Disk-backed notification storage.
+ *
+ * Notifications are appended to a memory-mapped segment log (SegmentLog)
+ * under notification-store.dir; deletes append a tombstone. On the heap
+ * there is only:
+ * - an index entry per live notification: id, createdAt, user, task,
+ *   dedup key and the record's position in the log
+ * - the id / user / task / dedup key indexes over those entries, ordered
+ *   by createdAt
+ * - the most recent tail-size notifications, so hot reads (a user's
+ *   latest notifications) are served without decoding from the log
+ *
+ * Maintenance runs every maintenance-interval-ms:
+ * - retention: the oldest notifications beyond max-count, or older than
+ *   max-age, are dropped. The newest dropped position is stored in the
+ *   retention file, so they stay dropped after a restart.
+ * - compaction: a segment whose live records take less than
+ *   min-live-ratio of it is rewritten: live records and still-needed
+ *   tombstones are appended to the log and the segment file is deleted.
+ *
+ * Compaction (and clear) remove records for good, so the highest id
+ * still in the log can be lower than ids already handed out. Before any
+ * segment is removed the highest appended id is stored in the highest-id
+ * file, and on startup ids resume after the larger of that and the
+ * highest id in the log, so an id (the SSE event id) is never reused.
+ *
+ * So the heap is bounded by max-count and tail-size, and disk by
+ * max-count divided by min-live-ratio, however long ingestion goes on.
+ * On startup the log is replayed to rebuild the indexes.
+ */
+@Component
+public class NotificationStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationStore.class);
+
+    private static final Comparator<Entry> BY_CREATED_AT =
+            Comparator.comparingLong((Entry entry) -> entry.createdAtMicros).thenComparingLong(entry -> entry.id);
+
+    private static final String RETENTION_FILE = "retention";
+    private static final String HIGHEST_ID_FILE = "highest-id";
+
+    private final SegmentLog log;
+    private final Path retentionFile;
+    private final Path highestIdFile;
+    private final int tailSize;
+    private final Duration maxAge;
+    private final int maxCount;
+    private final double minLiveRatio;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final NavigableSet<Entry> timeline = new ConcurrentSkipListSet<>(BY_CREATED_AT);
+    private final Map<Long, NavigableSet<Entry>> byUserId = new ConcurrentHashMap<>();
+    private final Map<Long, NavigableSet<Entry>> byTaskId = new ConcurrentHashMap<>();
+    private final Map<String, Entry> byDedupKey = new ConcurrentHashMap<>();
+
+    // Bytes of live records per segment, to pick segments for compaction
+    private final Map<Long, AtomicLong> liveBytes = new ConcurrentHashMap<>();
+
+    // Most recent notifications, oldest first in tailOrder
+    private final Map<Long, Notification> tail = new ConcurrentHashMap<>();
+    private final Queue<Long> tailOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger tailOrderSize = new AtomicInteger();
+
+    // Appends and deletes share it; maintenance and clear take it exclusively
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Everything up to and including this entry has been dropped by retention
+    private Entry retainedAfter;
+
+    // Highest id appended, and the value last written to the highest-id file
+    private final AtomicLong highestId = new AtomicLong();
+    private long storedHighestId;
+
+    public NotificationStore(@Value("${notification-store.dir:data/notifications}") Path dir,
+                             @Value("${notification-store.segment-size:16MB}") DataSize segmentSize,
+                             @Value("${notification-store.tail-size:10000}") int tailSize,
+                             @Value("${notification-store.retention.max-age:30d}") Duration maxAge,
+                             @Value("${notification-store.retention.max-count:100000}") int maxCount,
+                             @Value("${notification-store.compaction.min-live-ratio:0.5}") double minLiveRatio)
+            throws IOException {
+        this.log = new SegmentLog(dir, Math.toIntExact(segmentSize.toBytes()));
+        this.retentionFile = dir.resolve(RETENTION_FILE);
+        this.highestIdFile = dir.resolve(HIGHEST_ID_FILE);
+        this.tailSize = tailSize;
+        this.maxAge = maxAge;
+        this.maxCount = maxCount;
+        this.minLiveRatio = minLiveRatio;
+
+        recover();
+        logger.info("Notification store: {} notifications, tailSize={}, maxAge={}, maxCount={}",
+                entries.size(), tailSize, maxAge, maxCount);
+    }
+
+    // ==================== Writes ====================
+
+    /**
+     * Store a notification. If one with the same dedup key is stored, that
+     * one is returned instead and nothing is written.
+     */
+    public Notification append(Notification notification) {
+        lock.readLock().lock();
+        try {
+            if (notification.getDedupKey() != null) {
+                Entry existing = byDedupKey.get(notification.getDedupKey());
+                if (existing != null) {
+                    return load(existing);
+                }
+            }
+
+            byte[] record = NotificationCodec.encodePut(notification);
+            long position = log.append(record);
+            Entry entry = new Entry(notification, position, SegmentLog.recordSize(record));
+            highestId.accumulateAndGet(entry.id, Math::max);
+            index(entry);
+            addToTail(notification);
+            return notification;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean delete(long id) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(id);
+            if (entry == null || !unindex(entry)) {
+                return false;
+            }
+            tail.remove(id);
+            log.append(NotificationCodec.encodeDelete(id, SegmentLog.segmentId(entry.position)));
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            storeHighestId();
+            log.clear();
+            entries.clear();
+            timeline.clear();
+            byUserId.clear();
+            byTaskId.clear();
+            byDedupKey.clear();
+            liveBytes.clear();
+            tail.clear();
+            tailOrder.clear();
+            tailOrderSize.set(0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ==================== Reads ====================
+
+    public int size() {
+        return entries.size();
+    }
+
+    public Optional<Notification> get(long id) {
+        Entry entry = entries.get(id);
+        return entry != null ? Optional.ofNullable(load(entry)) : Optional.empty();
+    }
+
+    public Notification findByDedupKey(String dedupKey) {
+        Entry entry = byDedupKey.get(dedupKey);
+        return entry != null ? load(entry) : null;
+    }
+
+    /** All notifications, ordered by createdAt. */
+    public List<Notification> findAll() {
+        return page(timeline, 0, Integer.MAX_VALUE);
+    }
+
+    public List<Notification> findAll(int page, int size) {
+        return page(timeline, page, size);
+    }
+
+    public List<Notification> findByUserId(Long userId, int page, int size) {
+        return page(indexed(byUserId, userId), page, size);
+    }
+
+    public List<Notification> findByTaskId(Long taskId, int page, int size) {
+        return page(indexed(byTaskId, taskId), page, size);
+    }
+
+    /**
+     * The user's newest notifications with an id greater than afterId, at
+     * most limit, oldest first. Walks the index from the newest end and
+     * stops at the first notification at or before afterId.
+     */
+    public List<Notification> findByUserIdAfter(Long userId, long afterId, int limit) {
+        List<Notification> notifications = new ArrayList<>();
+        for (Entry entry : indexed(byUserId, userId).descendingSet()) {
+            if (entry.id <= afterId || notifications.size() == limit) {
+                break;
+            }
+            Notification notification = load(entry);
+            if (notification != null) {
+                notifications.add(notification);
+            }
+        }
+        Collections.reverse(notifications);
+        return notifications;
+    }
+
+    /**
+     * Walk the ordered index up to the requested page; entries before it
+     * are skipped without being read.
+     */
+    private List<Notification> page(NavigableSet<Entry> index, int page, int size) {
+        List<Notification> notifications = new ArrayList<>(Math.min(size, 64));
+        long skip = (long) page * size;
+        for (Entry entry : index) {
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            if (notifications.size() == size) {
+                break;
+            }
+            Notification notification = load(entry);
+            if (notification != null) {
+                notifications.add(notification);
+            }
+        }
+        return notifications;
+    }
+
+    /** The notification from the tail, or decoded from the log; null if deleted meanwhile. */
+    private Notification load(Entry entry) {
+        Notification notification = tail.get(entry.id);
+        if (notification != null) {
+            return notification;
+        }
+        while (true) {
+            long position = entry.position;
+            byte[] record = log.read(position);
+            if (record != null) {
+                return NotificationCodec.decodePut(record);
+            }
+            // Segment removed: the record was moved by compaction, or deleted
+            if (entry.position == position) {
+                return null;
+            }
+        }
+    }
+
+    // ==================== Maintenance ====================
+
+    @Scheduled(fixedDelayString = "${notification-store.maintenance-interval-ms:60000}")
+    public void maintain() {
+        lock.writeLock().lock();
+        try {
+            applyRetention();
+            storeHighestId();
+            compact();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.force();
+    }
+
+    private void applyRetention() {
+        long cutoff = toMicros(LocalDateTime.now().minus(maxAge));
+        Entry lastDropped = null;
+        int dropped = 0;
+        while (!timeline.isEmpty()) {
+            Entry oldest = timeline.first();
+            if (entries.size() <= maxCount && oldest.createdAtMicros >= cutoff) {
+                break;
+            }
+            unindex(oldest);
+            tail.remove(oldest.id);
+            lastDropped = oldest;
+            dropped++;
+        }
+
+        if (lastDropped != null) {
+            retainedAfter = lastDropped;
+            writeRetentionFile(lastDropped);
+            logger.info("Retention dropped {} notifications, {} left", dropped, entries.size());
+        }
+    }
+
+    private void compact() {
+        long activeSegmentId = log.activeSegmentId();
+        for (long segmentId : log.segmentIds()) {
+            if (segmentId >= activeSegmentId) {
+                continue;
+            }
+            long size = log.size(segmentId);
+            long live = liveBytes(segmentId).get();
+            if (size > 0 && (double) live / size >= minLiveRatio) {
+                continue;
+            }
+
+            int[] moved = new int[1];
+            log.forEach(segmentId, (position, record) -> {
+                if (NotificationCodec.op(record) == NotificationCodec.PUT) {
+                    Entry entry = entries.get(NotificationCodec.id(record));
+                    if (entry != null && entry.position == position) {
+                        entry.position = log.append(record);
+                        liveBytes(SegmentLog.segmentId(entry.position)).addAndGet(entry.size);
+                        moved[0]++;
+                    }
+                } else {
+                    // A tombstone is needed while the segment holding its PUT exists
+                    long deletedFrom = NotificationCodec.deletedSegmentId(record);
+                    if (deletedFrom != segmentId && log.contains(deletedFrom)) {
+                        log.append(record);
+                    }
+                }
+            });
+            log.delete(segmentId);
+            liveBytes.remove(segmentId);
+            logger.info("Compacted segment {}: {} of {} bytes live, {} notifications moved",
+                    segmentId, live, size, moved[0]);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            log.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ==================== Recovery ====================
+
+    private void recover() throws IOException {
+        retainedAfter = readRetentionFile();
+        long[] maxId = {0};
+
+        for (long segmentId : log.segmentIds()) {
+            log.forEach(segmentId, (position, record) -> {
+                long id = NotificationCodec.id(record);
+                maxId[0] = Math.max(maxId[0], id);
+
+                Entry previous = entries.get(id);
+                if (previous != null) {
+                    // PUT copied by a compaction that did not finish, or deleted
+                    unindex(previous);
+                }
+                if (NotificationCodec.op(record) == NotificationCodec.PUT) {
+                    Entry entry = new Entry(NotificationCodec.decodePut(record), position,
+                            SegmentLog.recordSize(record));
+                    if (retainedAfter == null || BY_CREATED_AT.compare(entry, retainedAfter) > 0) {
+                        index(entry);
+                    }
+                }
+            });
+        }
+        storedHighestId = readHighestIdFile();
+        highestId.set(Math.max(maxId[0], storedHighestId));
+        Notification.resumeIdsAfter(highestId.get());
+
+        // Warm the tail with the newest notifications
+        List<Entry> newest = new ArrayList<>();
+        for (Entry entry : timeline.descendingSet()) {
+            if (newest.size() == tailSize) {
+                break;
+            }
+            newest.add(entry);
+        }
+        Collections.reverse(newest);
+        for (Entry entry : newest) {
+            addToTail(load(entry));
+        }
+
+        applyRetention();
+    }
+
+    private void writeRetentionFile(Entry entry) {
+        try {
+            Path temp = retentionFile.resolveSibling(RETENTION_FILE + ".tmp");
+            Files.writeString(temp, entry.createdAtMicros + " " + entry.id, StandardCharsets.UTF_8);
+            Files.move(temp, retentionFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write " + retentionFile, e);
+        }
+    }
+
+    /** Store the highest appended id; must run before records are removed from the log. */
+    private void storeHighestId() {
+        long highest = highestId.get();
+        if (highest <= storedHighestId) {
+            return;
+        }
+        try {
+            Path temp = highestIdFile.resolveSibling(HIGHEST_ID_FILE + ".tmp");
+            Files.writeString(temp, Long.toString(highest), StandardCharsets.UTF_8);
+            Files.move(temp, highestIdFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write " + highestIdFile, e);
+        }
+        storedHighestId = highest;
+    }
+
+    private long readHighestIdFile() throws IOException {
+        if (!Files.exists(highestIdFile)) {
+            return 0;
+        }
+        return Long.parseLong(Files.readString(highestIdFile, StandardCharsets.UTF_8).trim());
+    }
+
+    private Entry readRetentionFile() throws IOException {
+        if (!Files.exists(retentionFile)) {
+            return null;
+        }
+        String[] parts = Files.readString(retentionFile, StandardCharsets.UTF_8).trim().split(" ");
+        return new Entry(Long.parseLong(parts[1]), Long.parseLong(parts[0]));
+    }
+
+    // ==================== Indexes ====================
+
+    private void index(Entry entry) {
+        entries.put(entry.id, entry);
+        timeline.add(entry);
+        addToIndex(byUserId, entry.userId, entry);
+        addToIndex(byTaskId, entry.taskId, entry);
+        if (entry.dedupKey != null) {
+            byDedupKey.put(entry.dedupKey, entry);
+        }
+        liveBytes(SegmentLog.segmentId(entry.position)).addAndGet(entry.size);
+    }
+
+    /** Remove the entry from all indexes; false if another thread already did. */
+    private boolean unindex(Entry entry) {
+        if (!entries.remove(entry.id, entry)) {
+            return false;
+        }
+        timeline.remove(entry);
+        removeFromIndex(byUserId, entry.userId, entry);
+        removeFromIndex(byTaskId, entry.taskId, entry);
+        if (entry.dedupKey != null) {
+            byDedupKey.remove(entry.dedupKey, entry);
+        }
+        liveBytes(SegmentLog.segmentId(entry.position)).addAndGet(-entry.size);
+        return true;
+    }
+
+    private AtomicLong liveBytes(long segmentId) {
+        return liveBytes.computeIfAbsent(segmentId, id -> new AtomicLong());
+    }
+
+    private static NavigableSet<Entry> indexed(Map<Long, NavigableSet<Entry>> index, Long key) {
+        NavigableSet<Entry> indexed = index.get(key);
+        return indexed != null ? indexed : Collections.emptyNavigableSet();
+    }
+
+    private static void addToIndex(Map<Long, NavigableSet<Entry>> index, Long key, Entry entry) {
+        if (key == null) {
+            return;
+        }
+        index.compute(key, (k, indexed) -> {
+            if (indexed == null) {
+                indexed = new ConcurrentSkipListSet<>(BY_CREATED_AT);
+            }
+            indexed.add(entry);
+            return indexed;
+        });
+    }
+
+    private static void removeFromIndex(Map<Long, NavigableSet<Entry>> index, Long key, Entry entry) {
+        if (key == null) {
+            return;
+        }
+        // Drop the key with its last entry, so deleted users/tasks do not pile up
+        index.computeIfPresent(key, (k, indexed) -> {
+            indexed.remove(entry);
+            return indexed.isEmpty() ? null : indexed;
+        });
+    }
+
+    private void addToTail(Notification notification) {
+        if (notification == null || tailSize <= 0) {
+            return;
+        }
+        tail.put(notification.getId(), notification);
+        tailOrder.add(notification.getId());
+        while (tailOrderSize.incrementAndGet() > tailSize) {
+            Long evicted = tailOrder.poll();
+            if (evicted == null) {
+                tailOrderSize.decrementAndGet();
+                break;
+            }
+            tail.remove(evicted);
+        }
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    /** Index entry of a stored notification. */
+    private static final class Entry {
+
+        final long id;
+        final long createdAtMicros;
+        final Long userId;
+        final Long taskId;
+        final String dedupKey;
+        final int size;
+        // Changed when compaction moves the record
+        volatile long position;
+
+        Entry(Notification notification, long position, int size) {
+            this.id = notification.getId();
+            this.createdAtMicros = toMicros(notification.getCreatedAt());
+            this.userId = notification.getUserId();
+            this.taskId = notification.getTaskId();
+            this.dedupKey = notification.getDedupKey();
+            this.position = position;
+            this.size = size;
+        }
+
+        // Retention bound read from the retention file
+        Entry(long id, long createdAtMicros) {
+            this.id = id;
+            this.createdAtMicros = createdAtMicros;
+            this.userId = null;
+            this.taskId = null;
+            this.dedupKey = null;
+            this.size = 0;
+        }
+    }
+}
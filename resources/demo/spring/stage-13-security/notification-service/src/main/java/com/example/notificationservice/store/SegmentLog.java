@@ -0,0 +1,281 @@
+package com.example.notificationservice.store;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log split into fixed-size, memory-mapped segment files
+ * (00000000000000000000.log, 00000000000000000001.log, ...).
+ *
+ * A record is [length][crc32][payload]. The length is written last, so a
+ * record cut short by a crash reads as the end of its segment, and the
+ * crc catches pages that never reached the disk. A record's position is
+ * (segment id << 32) | offset.
+ *
+ * Appends are serialized; reads are not locked. Removed segments are only
+ * unmapped by the garbage collector, so a read racing a removal still
+ * sees valid bytes.
+ */
+final class SegmentLog implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SegmentLog.class);
+
+    private static final int HEADER_SIZE = 8;
+    private static final String SUFFIX = ".log";
+
+    interface RecordVisitor {
+        void visit(long position, byte[] payload);
+    }
+
+    private final Path dir;
+    private final int segmentSize;
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private volatile Segment active;
+
+    SegmentLog(Path dir, int segmentSize) throws IOException {
+        this.dir = dir;
+        this.segmentSize = segmentSize;
+
+        Files.createDirectories(dir);
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().endsWith(SUFFIX)).toList()) {
+                String name = file.getFileName().toString();
+                long id = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+                segments.put(id, Segment.open(file, id, segmentSize));
+            }
+        }
+
+        if (segments.isEmpty()) {
+            active = createSegment(0);
+        } else {
+            active = segments.lastEntry().getValue();
+        }
+        logger.info("Opened notification log in {}: {} segments", dir.toAbsolutePath(), segments.size());
+    }
+
+    static long segmentId(long position) {
+        return position >>> 32;
+    }
+
+    /**
+     * Append a record.
+     *
+     * @return position of the record
+     */
+    synchronized long append(byte[] payload) {
+        if (payload.length > segmentSize - HEADER_SIZE) {
+            throw new IllegalArgumentException("Record of " + payload.length
+                    + " bytes does not fit in a segment of " + segmentSize + " bytes");
+        }
+        if (!active.hasRoomFor(payload.length)) {
+            active.force();
+            active = createSegment(active.id + 1);
+        }
+        int offset = active.append(payload);
+        return (active.id << 32) | offset;
+    }
+
+    /**
+     * Payload of the record at the position, or null if its segment has
+     * been removed.
+     */
+    byte[] read(long position) {
+        Segment segment = segments.get(segmentId(position));
+        return segment != null ? segment.read((int) position) : null;
+    }
+
+    /**
+     * Visit every record of the segment, in order.
+     */
+    void forEach(long segmentId, RecordVisitor visitor) {
+        Segment segment = segments.get(segmentId);
+        if (segment == null) {
+            return;
+        }
+        int end = segment.writePosition;
+        int offset = 0;
+        while (offset < end) {
+            byte[] payload = segment.read(offset);
+            visitor.visit((segmentId << 32) | offset, payload);
+            offset += HEADER_SIZE + payload.length;
+        }
+    }
+
+    List<Long> segmentIds() {
+        return new ArrayList<>(segments.keySet());
+    }
+
+    boolean contains(long segmentId) {
+        return segments.containsKey(segmentId);
+    }
+
+    long activeSegmentId() {
+        return active.id;
+    }
+
+    /** Bytes written to the segment, records and headers. */
+    long size(long segmentId) {
+        Segment segment = segments.get(segmentId);
+        return segment != null ? segment.writePosition : 0;
+    }
+
+    static int recordSize(byte[] payload) {
+        return HEADER_SIZE + payload.length;
+    }
+
+    /**
+     * Delete a segment other than the one being appended to.
+     */
+    synchronized void delete(long segmentId) {
+        if (segmentId == active.id) {
+            throw new IllegalArgumentException("Cannot delete the active segment " + segmentId);
+        }
+        Segment segment = segments.remove(segmentId);
+        if (segment != null) {
+            segment.delete();
+        }
+    }
+
+    /**
+     * Delete every segment and continue in a new, empty one.
+     */
+    synchronized void clear() {
+        long nextId = active.id + 1;
+        for (Segment segment : segments.values()) {
+            segment.delete();
+        }
+        segments.clear();
+        active = createSegment(nextId);
+    }
+
+    /** Write the active segment's changes to disk. */
+    void force() {
+        active.force();
+    }
+
+    @Override
+    public synchronized void close() {
+        for (Segment segment : segments.values()) {
+            segment.force();
+            segment.close();
+        }
+    }
+
+    private Segment createSegment(long id) {
+        Segment segment = Segment.open(dir.resolve(String.format("%020d%s", id, SUFFIX)), id, segmentSize);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    private static final class Segment {
+
+        final long id;
+        final Path path;
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+        // Written by append (under the log's lock), read by forEach/size
+        volatile int writePosition;
+
+        private Segment(long id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment open(Path path, long id, int segmentSize) {
+            try {
+                FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                        StandardOpenOption.READ, StandardOpenOption.WRITE);
+                // Keep existing segments at their size if segment-size was changed
+                long size = Math.max(segmentSize, channel.size());
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                Segment segment = new Segment(id, path, channel, buffer);
+                segment.writePosition = segment.findEnd();
+                return segment;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot open segment " + path, e);
+            }
+        }
+
+        /** Offset after the last complete, intact record. */
+        private int findEnd() {
+            int offset = 0;
+            while (offset + HEADER_SIZE <= buffer.capacity()) {
+                int length = buffer.getInt(offset);
+                if (length <= 0 || offset + HEADER_SIZE + length > buffer.capacity()) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                buffer.get(offset + HEADER_SIZE, payload);
+                if (crc(payload) != buffer.getInt(offset + 4)) {
+                    logger.warn("Segment {}: corrupt record at offset {}, ignoring the rest", path, offset);
+                    break;
+                }
+                offset += HEADER_SIZE + length;
+            }
+            return offset;
+        }
+
+        boolean hasRoomFor(int payloadLength) {
+            return writePosition + HEADER_SIZE + payloadLength <= buffer.capacity();
+        }
+
+        int append(byte[] payload) {
+            int offset = writePosition;
+            buffer.put(offset + HEADER_SIZE, payload);
+            buffer.putInt(offset + 4, crc(payload));
+            // Length last: until it is written the record does not exist
+            buffer.putInt(offset, payload.length);
+            writePosition = offset + HEADER_SIZE + payload.length;
+            return offset;
+        }
+
+        byte[] read(int offset) {
+            byte[] payload = new byte[buffer.getInt(offset)];
+            buffer.get(offset + HEADER_SIZE, payload);
+            return payload;
+        }
+
+        void force() {
+            buffer.force();
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.warn("Cannot close segment {}: {}", path, e.getMessage());
+            }
+        }
+
+        void delete() {
+            close();
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                logger.warn("Cannot delete segment {}: {}", path, e.getMessage());
+            }
+        }
+
+        private static int crc(byte[] payload) {
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            return (int) crc.getValue();
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.example.notificationservice.stream;
+
+import com.example.notificationservice.model.Notification;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pushes new notifications to server-sent-event subscribers, per user.
+ *
+ * Each subscription has a buffer of buffer-size notifications. Publishing
+ * only adds to the buffers of the user's subscriptions and schedules
+ * them for sending; a small shared pool (sender-threads) writes to the
+ * connections, so a slow client never blocks the create path. When a
+ * buffer is full, the overflow policy decides:
+ * - drop-oldest: the oldest buffered notification is dropped; the client
+ *   can fetch what it missed with GET /api/notifications
+ * - disconnect:  the subscription is closed; the client reconnects with
+ *   Last-Event-ID and gets the missed notifications replayed
+ *
+ * Idle subscriptions get a comment line every heartbeat-interval-ms, which
+ * also finds connections the client has dropped.
+ */
+@Component
+public class NotificationStreams {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationStreams.class);
+
+    public enum Overflow { DROP_OLDEST, DISCONNECT }
+
+    private final int bufferSize;
+    private final Overflow overflow;
+    private final Duration timeout;
+    private final int maxSubscriptionsPerUser;
+    private final int maxSubscriptions;
+    private final ExecutorService senders;
+
+    private final Map<Long, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriptionCount = new AtomicInteger();
+    private final Counter droppedNotifications;
+
+    public NotificationStreams(MeterRegistry meterRegistry,
+                               @Value("${notification-stream.buffer-size:256}") int bufferSize,
+                               @Value("${notification-stream.overflow:drop-oldest}") String overflow,
+                               @Value("${notification-stream.timeout:30m}") Duration timeout,
+                               @Value("${notification-stream.max-subscriptions-per-user:5}") int maxSubscriptionsPerUser,
+                               @Value("${notification-stream.max-subscriptions:10000}") int maxSubscriptions,
+                               @Value("${notification-stream.sender-threads:4}") int senderThreads) {
+        this.bufferSize = bufferSize;
+        this.overflow = Overflow.valueOf(overflow.toUpperCase().replace('-', '_'));
+        this.timeout = timeout;
+        this.maxSubscriptionsPerUser = maxSubscriptionsPerUser;
+        this.maxSubscriptions = maxSubscriptions;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "notification-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("notification.stream.subscriptions", subscriptionCount, AtomicInteger::get)
+                .description("Open notification stream subscriptions")
+                .register(meterRegistry);
+        this.droppedNotifications = Counter.builder("notification.stream.dropped")
+                .description("Notifications dropped or disconnected because a subscriber's buffer was full")
+                .register(meterRegistry);
+
+        logger.info("Notification streams: bufferSize={}, overflow={}, timeout={}",
+                bufferSize, this.overflow, timeout);
+    }
+
+    /**
+     * Open a subscription for the user.
+     *
+     * @param missed notifications the client has not seen yet (after its
+     *               Last-Event-ID), sent first. Read after the subscription is
+     *               registered, so nothing published in between is lost.
+     * @return the emitter, or null if the subscription limits are reached
+     */
+    public SseEmitter subscribe(Long userId, Supplier<List<Notification>> missed) {
+        if (subscriptionCount.incrementAndGet() > maxSubscriptions) {
+            subscriptionCount.decrementAndGet();
+            logger.warn("Rejecting notification stream for user {}: {} streams open", userId, maxSubscriptions);
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscription subscription = new Subscription(userId, emitter);
+        boolean[] added = new boolean[1];
+        subscriptions.compute(userId, (id, userSubscriptions) -> {
+            if (userSubscriptions == null) {
+                userSubscriptions = ConcurrentHashMap.newKeySet();
+            }
+            if (userSubscriptions.size() < maxSubscriptionsPerUser) {
+                added[0] = userSubscriptions.add(subscription);
+            }
+            return userSubscriptions.isEmpty() ? null : userSubscriptions;
+        });
+        if (!added[0]) {
+            subscriptionCount.decrementAndGet();
+            logger.warn("Rejecting notification stream for user {}: {} streams open for the user",
+                    userId, maxSubscriptionsPerUser);
+            return null;
+        }
+
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onTimeout(() -> remove(subscription));
+        emitter.onError(e -> remove(subscription));
+
+        List<Notification> replay = missed.get();
+        subscription.replay(replay);
+        subscription.heartbeatDue = true;
+        schedule(subscription);
+
+        logger.debug("User {} subscribed to notifications ({} missed)", userId, replay.size());
+        return emitter;
+    }
+
+    /** Most notifications a subscription buffers, and replays on reconnect. */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Push a new notification to the subscriptions of its user.
+     */
+    public void publish(Notification notification) {
+        if (notification.getUserId() == null) {
+            return;
+        }
+        Set<Subscription> userSubscriptions = subscriptions.get(notification.getUserId());
+        if (userSubscriptions == null) {
+            return;
+        }
+        for (Subscription subscription : userSubscriptions) {
+            if (subscription.offer(notification)) {
+                schedule(subscription);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notification-stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Set<Subscription> userSubscriptions : subscriptions.values()) {
+            for (Subscription subscription : userSubscriptions) {
+                subscription.heartbeatDue = true;
+                schedule(subscription);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Set<Subscription> userSubscriptions : subscriptions.values()) {
+            for (Subscription subscription : userSubscriptions) {
+                subscription.emitter.complete();
+            }
+        }
+        senders.shutdownNow();
+    }
+
+    private void schedule(Subscription subscription) {
+        // At most one send task per subscription at a time, so sends are never concurrent
+        if (subscription.scheduled.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> send(subscription));
+            } catch (RejectedExecutionException e) {
+                subscription.scheduled.set(false);
+            }
+        }
+    }
+
+    private void send(Subscription subscription) {
+        try {
+            Notification notification;
+            while ((notification = subscription.buffer.poll()) != null) {
+                subscription.emitter.send(SseEmitter.event()
+                        .id(String.valueOf(notification.getId()))
+                        .name("notification")
+                        .data(notification));
+                subscription.heartbeatDue = false;
+            }
+            if (subscription.heartbeatDue) {
+                subscription.heartbeatDue = false;
+                subscription.emitter.send(SseEmitter.event().comment("keep-alive"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Notification stream of user {} closed: {}", subscription.userId, e.getMessage());
+            subscription.emitter.completeWithError(e);
+            remove(subscription);
+            return;
+        } finally {
+            subscription.scheduled.set(false);
+        }
+        // Published while this task was finishing
+        if (!subscription.buffer.isEmpty()) {
+            schedule(subscription);
+        }
+    }
+
+    private void remove(Subscription subscription) {
+        if (subscription.removed.compareAndSet(false, true)) {
+            subscriptions.computeIfPresent(subscription.userId, (id, userSubscriptions) -> {
+                userSubscriptions.remove(subscription);
+                return userSubscriptions.isEmpty() ? null : userSubscriptions;
+            });
+            subscriptionCount.decrementAndGet();
+            logger.debug("User {} unsubscribed from notifications", subscription.userId);
+        }
+    }
+
+    private final class Subscription {
+
+        final Long userId;
+        final SseEmitter emitter;
+        final Queue<Notification> buffer = new ArrayBlockingQueue<>(bufferSize);
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        final AtomicBoolean removed = new AtomicBoolean();
+        volatile boolean heartbeatDue;
+
+        Subscription(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        /**
+         * Buffer the notification, applying the overflow policy.
+         *
+         * @return false if the subscription was closed instead
+         */
+        synchronized boolean offer(Notification notification) {
+            while (!buffer.offer(notification)) {
+                droppedNotifications.increment();
+                if (overflow == Overflow.DISCONNECT) {
+                    logger.warn("Notification stream of user {} is too slow, disconnecting", userId);
+                    buffer.clear();
+                    emitter.complete();
+                    remove(this);
+                    return false;
+                }
+                buffer.poll();
+            }
+            return true;
+        }
+
+        /**
+         * Put missed notifications (at most one buffer of the newest) ahead
+         * of those published since the subscription was registered.
+         */
+        synchronized void replay(List<Notification> missed) {
+            List<Notification> published = new ArrayList<>(buffer);
+            buffer.clear();
+
+            Set<Long> replayed = new HashSet<>();
+            for (Notification notification : missed.subList(Math.max(0, missed.size() - bufferSize), missed.size())) {
+                replayed.add(notification.getId());
+                offer(notification);
+            }
+            for (Notification notification : published) {
+                if (!replayed.contains(notification.getId())) {
+                    offer(notification);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.taskservice.cache;
+
+import com.example.taskservice.client.UserClient;
+import com.example.taskservice.config.AuthorizationHolder;
+import com.example.taskservice.dto.UserResponse;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Near cache of user-service users, keyed by user id.
+ *
+ * Users change rarely but are read for every task response, so they are
+ * kept locally:
+ * - refresh-after: an entry older than this is still returned, and a
+ *   background reload is started (refresh-ahead)
+ * - expire-after: an entry older than this is dropped. Until then it is
+ *   served even when reloads fail, so while the user-service circuit is
+ *   open callers get the last known user instead of the placeholder
+ * - user-service calls DELETE /internal/cache/users/{id} after a user is
+ *   updated or deleted, so changes show up without waiting for a refresh
+ *
+ * Placeholder users from UserClientFallback are never cached. Every
+ * user-service call - single loads, background refreshes and batch
+ * loads - goes through the userService circuit breaker: a failed call
+ * counts towards opening it, and while it is open no calls are made
+ * (get() throws UserServiceUnavailableException, getAll() fills in the
+ * placeholder, refreshes keep the cached user).
+ * Hit/miss/eviction counts are exported as cache.* metrics (cache=users).
+ */
+@Component
+public class UserCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserCache.class);
+
+    // Ids per POST /api/users/batch call (user-service accepts up to 1000)
+    private static final int BATCH_SIZE = 500;
+
+    private final UserClient userClient;
+    private final CircuitBreaker circuitBreaker;
+    private final ExecutorService refreshPool;
+    private final LoadingCache<Long, UserResponse> cache;
+
+    public UserCache(UserClient userClient,
+                     CircuitBreakerRegistry circuitBreakerRegistry,
+                     MeterRegistry meterRegistry,
+                     @Value("${user-cache.max-size:10000}") long maxSize,
+                     @Value("${user-cache.refresh-after:60s}") Duration refreshAfter,
+                     @Value("${user-cache.expire-after:30m}") Duration expireAfter) {
+        this.userClient = userClient;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker("userService");
+        this.refreshPool = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "user-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .refreshAfterWrite(refreshAfter)
+                .expireAfterWrite(expireAfter)
+                .executor(forwardingAuthorization(refreshPool))
+                .recordStats()
+                .build(new UserLoader());
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "users");
+        logger.info("User cache: maxSize={}, refreshAfter={}, expireAfter={}",
+                maxSize, refreshAfter, expireAfter);
+    }
+
+    /**
+     * Cached user, loading it on a miss.
+     *
+     * @throws UserServiceUnavailableException if not cached and user-service is unavailable
+     */
+    public UserResponse get(Long userId) {
+        return cache.get(userId);
+    }
+
+    /**
+     * Cached user, or null if not cached. Never calls user-service
+     * (apart from a background refresh of an older entry).
+     */
+    public UserResponse getIfPresent(Long userId) {
+        return cache.getIfPresent(userId);
+    }
+
+    /**
+     * Cached users, loading all misses with batch calls.
+     * Users that cannot be loaded because user-service is unavailable are
+     * filled in with unavailable.apply(id); unknown ids are omitted.
+     */
+    public Map<Long, UserResponse> getAll(Collection<Long> userIds,
+                                          Function<Long, UserResponse> unavailable) {
+        Map<Long, UserResponse> users = new HashMap<>(cache.getAllPresent(userIds));
+        if (users.size() == userIds.size()) {
+            return users;
+        }
+
+        List<Long> missing = new ArrayList<>();
+        for (Long userId : userIds) {
+            if (!users.containsKey(userId)) {
+                missing.add(userId);
+            }
+        }
+
+        try {
+            users.putAll(cache.getAll(missing));
+        } catch (UserServiceUnavailableException e) {
+            logger.warn("Could not load {} users: {}", missing.size(), e.getMessage());
+            for (Long userId : missing) {
+                users.put(userId, unavailable.apply(userId));
+            }
+        }
+        return users;
+    }
+
+    public void invalidate(Long userId) {
+        logger.debug("Invalidating cached user {}", userId);
+        cache.invalidate(userId);
+    }
+
+    public void invalidateAll() {
+        logger.debug("Invalidating all cached users");
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshPool.shutdownNow();
+    }
+
+    /**
+     * Background refreshes run without a request, so capture the caller's
+     * bearer token and hand it to the Feign call on the refresh thread.
+     */
+    private static Executor forwardingAuthorization(Executor delegate) {
+        return task -> {
+            String authorization = AuthorizationHolder.current();
+            delegate.execute(() -> AuthorizationHolder.runWith(authorization, task));
+        };
+    }
+
+    private class UserLoader implements CacheLoader<Long, UserResponse> {
+
+        // Also used for refreshAfterWrite reloads
+        @Override
+        public UserResponse load(Long userId) {
+            logger.debug("Loading user {} from user-service", userId);
+            try {
+                return circuitBreaker.executeSupplier(() -> loadOne(userId));
+            } catch (CallNotPermittedException e) {
+                throw new UserServiceUnavailableException(
+                        "userService circuit breaker is open, user " + userId + " not loaded");
+            }
+        }
+
+        @Override
+        public Map<Long, UserResponse> loadAll(Set<? extends Long> userIds) {
+            logger.debug("Loading {} users from user-service", userIds.size());
+            List<Long> ids = new ArrayList<>(userIds);
+            Map<Long, UserResponse> users = new HashMap<>();
+            for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+                try {
+                    users.putAll(circuitBreaker.executeSupplier(() -> loadBatch(chunk)));
+                } catch (CallNotPermittedException e) {
+                    throw new UserServiceUnavailableException(
+                            "userService circuit breaker is open, " + ids.size() + " users not loaded");
+                }
+            }
+            return users;
+        }
+
+        // A placeholder means user-service failed, which the circuit
+        // breaker records as a failed call
+        private UserResponse loadOne(Long userId) {
+            UserResponse user = userClient.getUserById(userId);
+            if (user == null || user.isFallback()) {
+                throw new UserServiceUnavailableException("user-service unavailable for user " + userId);
+            }
+            return user;
+        }
+
+        // One batch call; placeholders mean user-service failed, which the
+        // circuit breaker records as a failed call
+        private Map<Long, UserResponse> loadBatch(List<Long> userIds) {
+            Map<Long, UserResponse> users = new HashMap<>();
+            for (UserResponse user : userClient.getUsersByIds(userIds).values()) {
+                if (user.isFallback()) {
+                    throw new UserServiceUnavailableException(
+                            "user-service unavailable for " + userIds.size() + " users");
+                }
+                users.put(user.getId(), user);
+            }
+            return users;
+        }
+    }
+}
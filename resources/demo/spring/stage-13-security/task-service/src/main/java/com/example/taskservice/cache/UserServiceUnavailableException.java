@@ -0,0 +1,12 @@
+package com.example.taskservice.cache;
+
+/**
+ * Thrown by UserCache when a user could not be loaded because
+ * user-service is down or its circuit breaker is open.
+ */
+public class UserServiceUnavailableException extends RuntimeException {
+
+    public UserServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.List;
 import java.util.Map;
 
 @FeignClient(name = "notification-service")
@@ -11,4 +12,8 @@ public interface NotificationClient {
 
     @PostMapping("/api/notifications")
     Map<String, Object> sendNotification(@RequestBody Map<String, Object> notification);
+
+    // One request for many notifications (at most 1000), see OutboxPublisher
+    @PostMapping("/api/notifications/batch")
+    Map<String, Object> sendNotifications(@RequestBody List<Map<String, Object>> notifications);
 }
@@ -5,7 +5,10 @@ import com.example.taskservice.fallback.UserClientFallback;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.Collection;
 import java.util.Map;
 
 @FeignClient(
@@ -17,6 +20,12 @@ public interface UserClient {
     @GetMapping("/api/users/{id}")
     UserResponse getUserById(@PathVariable("id") Long id);
 
+    /**
+     * Batch lookup: one request for many users. Unknown ids are omitted.
+     */
+    @PostMapping("/api/users/batch")
+    Map<Long, UserResponse> getUsersByIds(@RequestBody Collection<Long> ids);
+
     @GetMapping("/api/users/{id}/exists")
     Map<String, Boolean> checkUserExists(@PathVariable("id") Long id);
 }
@@ -0,0 +1,65 @@
+package com.example.taskservice.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.function.Supplier;
+
+/**
+ * Carries the caller's Authorization header to background threads.
+ *
+ * Feign calls made on a request thread forward the incoming bearer token
+ * (see FeignConfig). Work handed to another thread - e.g. a cache
+ * refresh - has no request bound, so it captures the header with
+ * current() and runs with runWith(header, task).
+ */
+public final class AuthorizationHolder {
+
+    private static final ThreadLocal<String> FORWARDED = new ThreadLocal<>();
+
+    private AuthorizationHolder() {
+    }
+
+    /**
+     * Authorization header of the current request, or the one forwarded
+     * to this thread, or null.
+     */
+    public static String current() {
+        ServletRequestAttributes attributes =
+            (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+
+        if (attributes != null) {
+            HttpServletRequest request = attributes.getRequest();
+            return request.getHeader("Authorization");
+        }
+        return FORWARDED.get();
+    }
+
+    /**
+     * Run the task with the given Authorization header forwarded to Feign.
+     */
+    public static void runWith(String authorization, Runnable task) {
+        callWith(authorization, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Call the task with the given Authorization header forwarded to Feign.
+     */
+    public static <T> T callWith(String authorization, Supplier<T> task) {
+        String previous = FORWARDED.get();
+        FORWARDED.set(authorization);
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                FORWARDED.set(previous);
+            } else {
+                FORWARDED.remove();
+            }
+        }
+    }
+}
@@ -2,11 +2,8 @@ package com.example.taskservice.config;
 
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
-import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
 @Configuration
 public class FeignConfig {
@@ -16,16 +13,11 @@ public class FeignConfig {
         return new RequestInterceptor() {
             @Override
             public void apply(RequestTemplate template) {
-                ServletRequestAttributes attributes =
-                    (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+                // From the current request, or forwarded to a background thread
+                String authHeader = AuthorizationHolder.current();
 
-                if (attributes != null) {
-                    HttpServletRequest request = attributes.getRequest();
-                    String authHeader = request.getHeader("Authorization");
-
-                    if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                        template.header("Authorization", authHeader);
-                    }
+                if (authHeader != null && authHeader.startsWith("Bearer ")) {
+                    template.header("Authorization", authHeader);
                 }
             }
         };
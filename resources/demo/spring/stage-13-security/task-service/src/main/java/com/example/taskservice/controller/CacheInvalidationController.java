@@ -0,0 +1,43 @@
+package com.example.taskservice.controller;
+
+import com.example.taskservice.cache.UserCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Invalidation callbacks for the user near cache.
+ *
+ * Called by user-service on every task-service instance (found through
+ * Eureka) after a user is updated or deleted. Not routed by the gateway.
+ */
+@RestController
+@RequestMapping("/internal/cache/users")
+public class CacheInvalidationController {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationController.class);
+
+    private final UserCache userCache;
+
+    public CacheInvalidationController(UserCache userCache) {
+        this.userCache = userCache;
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> invalidateUser(@PathVariable Long id) {
+        logger.debug("DELETE /internal/cache/users/{}", id);
+        userCache.invalidate(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> invalidateAllUsers() {
+        logger.debug("DELETE /internal/cache/users");
+        userCache.invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+}
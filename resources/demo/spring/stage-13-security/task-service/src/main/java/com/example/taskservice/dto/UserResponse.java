@@ -1,5 +1,7 @@
 package com.example.taskservice.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.time.LocalDateTime;
 
 public class UserResponse {
@@ -11,6 +13,10 @@ public class UserResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // Set on placeholder users built when user-service is unavailable (never cached)
+    @JsonIgnore
+    private boolean fallback;
+
     public UserResponse() {
     }
 
@@ -69,4 +75,12 @@ public class UserResponse {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public boolean isFallback() {
+        return fallback;
+    }
+
+    public void setFallback(boolean fallback) {
+        this.fallback = fallback;
+    }
 }
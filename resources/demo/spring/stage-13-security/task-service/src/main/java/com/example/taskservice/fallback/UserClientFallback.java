@@ -6,6 +6,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -25,15 +27,18 @@ public class UserClientFallback implements UserClient {
     @Override
     public UserResponse getUserById(Long id) {
         logger.warn("FALLBACK: user-service unavailable. Returning fallback user for id: {}", id);
+        return fallbackUser(id);
+    }
 
-        // Return a fallback user with minimal information
-        UserResponse fallbackUser = new UserResponse();
-        fallbackUser.setId(id);
-        fallbackUser.setName("Unknown User (Service Unavailable)");
-        fallbackUser.setEmail("unavailable@fallback.local");
-        fallbackUser.setDepartment("N/A");
-
-        return fallbackUser;
+    @Override
+    public Map<Long, UserResponse> getUsersByIds(Collection<Long> ids) {
+        logger.warn("FALLBACK: user-service unavailable. Returning fallback users for {} ids", ids.size());
+
+        Map<Long, UserResponse> users = new LinkedHashMap<>();
+        for (Long id : ids) {
+            users.put(id, fallbackUser(id));
+        }
+        return users;
     }
 
     @Override
@@ -44,4 +49,15 @@ public class UserClientFallback implements UserClient {
         // This is a business decision - you might want to block instead
         return Map.of("exists", true);
     }
+
+    // Return a fallback user with minimal information
+    private UserResponse fallbackUser(Long id) {
+        UserResponse fallbackUser = new UserResponse();
+        fallbackUser.setId(id);
+        fallbackUser.setName("Unknown User (Service Unavailable)");
+        fallbackUser.setEmail("unavailable@fallback.local");
+        fallbackUser.setDepartment("N/A");
+        fallbackUser.setFallback(true);
+        return fallbackUser;
+    }
 }
@@ -0,0 +1,161 @@
+package com.example.taskservice.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * A notification waiting to be sent to notification-service.
+ * Written in the same transaction as the task change (see NotificationOutbox)
+ * and deleted once notification-service has accepted it.
+ *
+ * An event that cannot be delivered (rejected by notification-service, or
+ * out of attempts) is kept with deadAt set and is no longer sent.
+ */
+@Entity
+@Table(name = "notification_outbox",
+       indexes = @Index(name = "idx_outbox_pending", columnList = "dead_at, next_attempt_at"))
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Sent with the notification; notification-service ignores repeats
+    @Column(name = "dedup_key", nullable = false, unique = true, length = 36)
+    private String dedupKey;
+
+    @Column(nullable = false, length = 50)
+    private String type;
+
+    @Column(nullable = false, length = 1000)
+    private String message;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "dead_at")
+    private LocalDateTime deadAt;
+
+    public OutboxEvent() {
+    }
+
+    public OutboxEvent(String dedupKey, String type, String message, Long userId, Long taskId) {
+        this.dedupKey = dedupKey;
+        this.type = type;
+        this.message = message;
+        this.userId = userId;
+        this.taskId = taskId;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getDedupKey() {
+        return dedupKey;
+    }
+
+    public void setDedupKey(String dedupKey) {
+        this.dedupKey = dedupKey;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getDeadAt() {
+        return deadAt;
+    }
+
+    public void setDeadAt(LocalDateTime deadAt) {
+        this.deadAt = deadAt;
+    }
+}
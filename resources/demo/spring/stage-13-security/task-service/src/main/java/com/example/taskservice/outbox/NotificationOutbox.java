@@ -0,0 +1,45 @@
+package com.example.taskservice.outbox;
+
+import com.example.taskservice.model.OutboxEvent;
+import com.example.taskservice.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Transactional outbox for task notifications.
+ *
+ * Instead of calling notification-service while the task transaction is
+ * open, the notification is stored in the notification_outbox table in
+ * that same transaction:
+ * - the write returns as soon as it commits, whatever notification-service does
+ * - a rolled-back task change sends no notification
+ * - a committed one is kept until OutboxPublisher has delivered it
+ */
+@Component
+public class NotificationOutbox {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationOutbox.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    public NotificationOutbox(OutboxEventRepository outboxEventRepository) {
+        this.outboxEventRepository = outboxEventRepository;
+    }
+
+    /**
+     * Store a notification for sending. Must be called inside the
+     * transaction of the change it reports.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String type, String message, Long userId, Long taskId) {
+        OutboxEvent event = outboxEventRepository.save(new OutboxEvent(
+                UUID.randomUUID().toString(), type, message, userId, taskId));
+        logger.debug("Queued notification {} - type: {}, userId: {}, taskId: {}",
+                event.getDedupKey(), type, userId, taskId);
+    }
+}
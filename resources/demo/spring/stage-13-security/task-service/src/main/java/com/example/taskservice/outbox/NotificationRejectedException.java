@@ -0,0 +1,13 @@
+package com.example.taskservice.outbox;
+
+/**
+ * Thrown by OutboxPublisher when notification-service answers a send with
+ * a 4xx other than 408/429. The notificationService circuit breaker
+ * ignores it: a bad request says nothing about the service's health.
+ */
+public class NotificationRejectedException extends RuntimeException {
+
+    public NotificationRejectedException(Throwable cause) {
+        super(cause.getMessage(), cause);
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.taskservice.outbox;
+
+import com.example.taskservice.client.NotificationClient;
+import com.example.taskservice.model.OutboxEvent;
+import com.example.taskservice.repository.OutboxEventRepository;
+import feign.FeignException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the notification outbox into notification-service.
+ *
+ * Events written between two polls are coalesced: every poll-interval-ms,
+ * due events are sent oldest first with one POST /api/notifications/batch
+ * per batch-size events:
+ * - sent events are deleted
+ * - if the call fails, its events are retried after an exponential
+ *   backoff (initial-backoff, doubling up to max-backoff) and the poll
+ *   stops, so a down notification-service is not hit with every batch
+ * - if notification-service rejects the batch with a 4xx (other than 408
+ *   and 429), retrying it cannot help: its events are sent one at a time
+ *   instead, so the rejected ones are found and the rest get through;
+ *   rejections do not count as failures for the circuit breaker
+ * - while the notificationService circuit breaker is open nothing is sent
+ *
+ * Events are retried up to max-attempts times. An event that is rejected
+ * on its own, or runs out of attempts, is marked dead (dead_at set): it
+ * stays in the table for inspection but is no longer sent, and is counted
+ * in notification.outbox.dead.
+ *
+ * An event can be sent more than once (a crash between send and delete,
+ * or two task-service instances polling together); notification-service
+ * drops repeats by their dedupKey.
+ */
+@Component
+public class OutboxPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxPublisher.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final NotificationClient notificationClient;
+    private final CircuitBreaker circuitBreaker;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Counter deadEvents;
+
+    // notification.outbox.pending, counted at most every pending-refresh
+    // by the poller rather than on every metrics scrape
+    private final AtomicLong pending = new AtomicLong();
+    private final Duration pendingRefresh;
+    private long pendingCountedAt;
+
+    public OutboxPublisher(OutboxEventRepository outboxEventRepository,
+                           NotificationClient notificationClient,
+                           CircuitBreakerRegistry circuitBreakerRegistry,
+                           MeterRegistry meterRegistry,
+                           @Value("${notification-outbox.batch-size:100}") int batchSize,
+                           @Value("${notification-outbox.max-attempts:15}") int maxAttempts,
+                           @Value("${notification-outbox.initial-backoff:1s}") Duration initialBackoff,
+                           @Value("${notification-outbox.max-backoff:5m}") Duration maxBackoff,
+                           @Value("${notification-outbox.pending-refresh:30s}") Duration pendingRefresh) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.notificationClient = notificationClient;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker("notificationService");
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.pendingRefresh = pendingRefresh;
+
+        Gauge.builder("notification.outbox.pending", pending, AtomicLong::get)
+                .description("Notifications waiting to be sent to notification-service")
+                .register(meterRegistry);
+        this.deadEvents = Counter.builder("notification.outbox.dead")
+                .description("Notifications given up on: rejected by notification-service or out of attempts")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${notification-outbox.poll-interval-ms:1000}")
+    public void publishPending() {
+        int sent;
+        do {
+            sent = publishBatch();
+        } while (sent == batchSize);
+        refreshPendingCount();
+    }
+
+    /**
+     * Send one batch of due events.
+     *
+     * @return number of events sent
+     */
+    int publishBatch() {
+        List<OutboxEvent> due = outboxEventRepository.findByDeadAtIsNullAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                LocalDateTime.now(), PageRequest.of(0, batchSize));
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            send(due);
+        } catch (CallNotPermittedException e) {
+            logger.debug("notification-service circuit open, {} notifications waiting", due.size());
+            return 0;
+        } catch (NotificationRejectedException e) {
+            if (due.size() == 1) {
+                markDead(due.get(0), "Rejected by notification-service: " + e.getMessage());
+                return 0;
+            }
+            logger.warn("notification-service rejected a batch of {} notifications, sending them one by one: {}",
+                    due.size(), e.getMessage());
+            return publishOneByOne(due);
+        } catch (Exception e) {
+            scheduleRetry(due, e);
+            return 0;
+        }
+
+        outboxEventRepository.deleteAllInBatch(due);
+        logger.info("Sent {} notifications", due.size());
+        return due.size();
+    }
+
+    /**
+     * Send the events of a rejected batch separately: events rejected on
+     * their own are marked dead, the others are sent. Stops at the first
+     * other failure and schedules a retry for the remaining events.
+     *
+     * @return number of events sent
+     */
+    private int publishOneByOne(List<OutboxEvent> events) {
+        List<OutboxEvent> sent = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEvent event = events.get(i);
+            try {
+                send(List.of(event));
+                sent.add(event);
+            } catch (CallNotPermittedException e) {
+                break;
+            } catch (NotificationRejectedException e) {
+                markDead(event, "Rejected by notification-service: " + e.getMessage());
+            } catch (Exception e) {
+                scheduleRetry(events.subList(i, events.size()), e);
+                break;
+            }
+        }
+
+        outboxEventRepository.deleteAllInBatch(sent);
+        logger.info("Sent {} of {} notifications one by one", sent.size(), events.size());
+        return sent.size();
+    }
+
+    private void send(List<OutboxEvent> events) {
+        List<Map<String, Object>> payloads = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            payloads.add(toPayload(event));
+        }
+        circuitBreaker.executeSupplier(() -> {
+            try {
+                return notificationClient.sendNotifications(payloads);
+            } catch (RuntimeException e) {
+                FeignException rejection = rejection(e);
+                throw rejection != null ? new NotificationRejectedException(rejection) : e;
+            }
+        });
+    }
+
+    private void scheduleRetry(List<OutboxEvent> events, Exception e) {
+        LocalDateTime now = LocalDateTime.now();
+        String error = truncate(e.getMessage(), 500);
+        List<OutboxEvent> retried = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            int attempts = event.getAttempts() + 1;
+            event.setAttempts(attempts);
+            event.setLastError(error);
+            if (attempts >= maxAttempts) {
+                markDead(event, "Gave up after " + attempts + " attempts: " + e.getMessage());
+            } else {
+                event.setNextAttemptAt(now.plus(backoff(attempts)));
+                retried.add(event);
+            }
+        }
+        outboxEventRepository.saveAll(retried);
+
+        if (!retried.isEmpty()) {
+            int attempts = retried.get(0).getAttempts();
+            logger.warn("Failed to send {} notifications (attempt {}), retrying in {}: {}",
+                    retried.size(), attempts, backoff(attempts), e.getMessage());
+        }
+    }
+
+    private void markDead(OutboxEvent event, String reason) {
+        event.setDeadAt(LocalDateTime.now());
+        event.setLastError(truncate(reason, 500));
+        outboxEventRepository.save(event);
+        deadEvents.increment();
+        logger.error("Giving up on notification {} ({}, task {}): {}",
+                event.getDedupKey(), event.getType(), event.getTaskId(), reason);
+    }
+
+    // A 4xx other than 408/429: the request itself is wrong, retrying it cannot succeed
+    private static FeignException rejection(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof FeignException feignException) {
+                int status = feignException.status();
+                boolean rejected = status >= 400 && status < 500 && status != 408 && status != 429;
+                return rejected ? feignException : null;
+            }
+        }
+        return null;
+    }
+
+    private void refreshPendingCount() {
+        long now = System.nanoTime();
+        if (pendingCountedAt != 0 && now - pendingCountedAt < pendingRefresh.toNanos()) {
+            return;
+        }
+        pendingCountedAt = now;
+        pending.set(outboxEventRepository.countByDeadAtIsNull());
+    }
+
+    private Duration backoff(int attempts) {
+        // initial, 2x initial, 4x initial, ... capped at max
+        int doublings = Math.min(attempts - 1, 30);
+        Duration backoff = initialBackoff.multipliedBy(1L << doublings);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private static Map<String, Object> toPayload(OutboxEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("type", event.getType());
+        payload.put("message", event.getMessage());
+        payload.put("userId", event.getUserId() != null ? event.getUserId() : 0);
+        payload.put("taskId", event.getTaskId());
+        payload.put("dedupKey", event.getDedupKey());
+        return payload;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.taskservice.repository;
+
+import com.example.taskservice.model.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Both use idx_outbox_pending (dead_at, next_attempt_at)
+
+    List<OutboxEvent> findByDeadAtIsNullAndNextAttemptAtLessThanEqualOrderByIdAsc(LocalDateTime now,
+                                                                                 Pageable pageable);
+
+    long countByDeadAtIsNull();
+}
@@ -0,0 +1,120 @@
+package com.example.taskservice.service;
+
+import com.example.taskservice.cache.UserCache;
+import com.example.taskservice.config.AuthorizationHolder;
+import com.example.taskservice.dto.UserResponse;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Looks up users one GET /api/users/{id} call per user, with the calls
+ * running in parallel. Used instead of the batch endpoint when
+ * user-enrichment.batch is false.
+ *
+ * - at most max-concurrency calls run at once, across all requests
+ * - one deadline for the whole lookup: users not loaded by then get the
+ *   placeholder, so a list takes about as long as its slowest lookup
+ *   instead of the sum of all of them
+ * - every call goes through the userService circuit breaker (applied by
+ *   UserCache); while it is open no calls are made and the placeholder
+ *   is used
+ *
+ * Users in the near cache are returned without a call.
+ */
+@Component
+public class ParallelUserLookup {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelUserLookup.class);
+
+    private final UserCache userCache;
+    private final Duration deadline;
+    private final ExecutorService pool;
+
+    public ParallelUserLookup(UserCache userCache,
+                              @Value("${user-enrichment.max-concurrency:16}") int maxConcurrency,
+                              @Value("${user-enrichment.deadline:2s}") Duration deadline) {
+        this.userCache = userCache;
+        this.deadline = deadline;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.pool = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "user-lookup-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        logger.info("Parallel user lookup: maxConcurrency={}, deadline={}", maxConcurrency, deadline);
+    }
+
+    /**
+     * Users by id. Users that could not be loaded before the deadline, or
+     * because user-service is unavailable, are filled in with
+     * unavailable.apply(id).
+     */
+    public Map<Long, UserResponse> getAll(Collection<Long> userIds,
+                                          Function<Long, UserResponse> unavailable) {
+        Map<Long, UserResponse> users = new HashMap<>();
+        Map<Long, Future<UserResponse>> calls = new LinkedHashMap<>();
+
+        String authorization = AuthorizationHolder.current();
+        for (Long userId : userIds) {
+            UserResponse cached = userCache.getIfPresent(userId);
+            if (cached != null) {
+                users.put(userId, cached);
+            } else {
+                calls.put(userId, pool.submit(() ->
+                        AuthorizationHolder.callWith(authorization, () -> userCache.get(userId))));
+            }
+        }
+
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+        int timedOut = 0;
+        for (Map.Entry<Long, Future<UserResponse>> call : calls.entrySet()) {
+            Long userId = call.getKey();
+            Future<UserResponse> future = call.getValue();
+            try {
+                long remaining = Math.max(0, deadlineNanos - System.nanoTime());
+                users.put(userId, future.get(remaining, TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                timedOut++;
+                users.put(userId, unavailable.apply(userId));
+            } catch (ExecutionException e) {
+                logger.debug("Could not load user {}: {}", userId, e.getCause().getMessage());
+                users.put(userId, unavailable.apply(userId));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                users.put(userId, unavailable.apply(userId));
+                // Stop waiting, remaining calls time out immediately
+                deadlineNanos = System.nanoTime();
+            }
+        }
+
+        if (timedOut > 0) {
+            logger.warn("{} of {} user lookups missed the {} deadline", timedOut, calls.size(), deadline);
+        }
+        return users;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+}
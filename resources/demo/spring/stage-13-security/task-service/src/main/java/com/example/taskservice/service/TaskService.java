@@ -1,23 +1,33 @@
 package com.example.taskservice.service;
 
-import com.example.taskservice.client.NotificationClient;
+import com.example.taskservice.cache.UserCache;
+import com.example.taskservice.cache.UserServiceUnavailableException;
 import com.example.taskservice.client.UserClient;
 import com.example.taskservice.dto.TaskRequest;
 import com.example.taskservice.dto.TaskResponse;
 import com.example.taskservice.dto.UserResponse;
 import com.example.taskservice.model.Task;
 import com.example.taskservice.model.TaskStatus;
+import com.example.taskservice.outbox.NotificationOutbox;
 import com.example.taskservice.repository.TaskRepository;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
@@ -29,21 +39,33 @@ public class TaskService {
 
     private final TaskRepository taskRepository;
     private final UserClient userClient;
-    private final NotificationClient notificationClient;
+    private final UserCache userCache;
+    private final ParallelUserLookup parallelUserLookup;
+    private final NotificationOutbox notificationOutbox;
+    private final boolean batchUserLookup;
+    private final Counter fallbackUsers;
 
     public TaskService(TaskRepository taskRepository,
                        UserClient userClient,
-                       NotificationClient notificationClient) {
+                       UserCache userCache,
+                       ParallelUserLookup parallelUserLookup,
+                       NotificationOutbox notificationOutbox,
+                       MeterRegistry meterRegistry,
+                       @Value("${user-enrichment.batch:true}") boolean batchUserLookup) {
         this.taskRepository = taskRepository;
         this.userClient = userClient;
-        this.notificationClient = notificationClient;
+        this.userCache = userCache;
+        this.parallelUserLookup = parallelUserLookup;
+        this.notificationOutbox = notificationOutbox;
+        this.batchUserLookup = batchUserLookup;
+        this.fallbackUsers = Counter.builder("task.enrichment.fallbacks")
+                .description("Task responses enriched with a placeholder user")
+                .register(meterRegistry);
     }
 
     public List<TaskResponse> getAllTasks() {
         logger.debug("Fetching all tasks");
-        return taskRepository.findAll().stream()
-                .map(this::mapToResponseWithUser)
-                .collect(Collectors.toList());
+        return mapToResponsesWithUsers(taskRepository.findAll());
     }
 
     public Optional<TaskResponse> getTaskById(Long id) {
@@ -54,16 +76,12 @@ public class TaskService {
 
     public List<TaskResponse> getTasksByUserId(Long userId) {
         logger.debug("Fetching tasks for user: {}", userId);
-        return taskRepository.findByAssignedUserId(userId).stream()
-                .map(this::mapToResponseWithUser)
-                .collect(Collectors.toList());
+        return mapToResponsesWithUsers(taskRepository.findByAssignedUserId(userId));
     }
 
     public List<TaskResponse> getTasksByStatus(TaskStatus status) {
         logger.debug("Fetching tasks with status: {}", status);
-        return taskRepository.findByStatus(status).stream()
-                .map(this::mapToResponseWithUser)
-                .collect(Collectors.toList());
+        return mapToResponsesWithUsers(taskRepository.findByStatus(status));
     }
 
     public TaskResponse createTask(TaskRequest request) {
@@ -84,7 +102,7 @@ public class TaskService {
         Task savedTask = taskRepository.save(task);
         logger.info("Created task with id: {}", savedTask.getId());
 
-        // Send notification (fire-and-forget, with circuit breaker)
+        // Send notification (queued in the outbox, sent after commit)
         sendTaskNotification("TASK_CREATED",
                 "New task created: " + savedTask.getTitle(),
                 savedTask.getAssignedUserId(),
@@ -185,45 +203,92 @@ public class TaskService {
     @CircuitBreaker(name = "userService", fallbackMethod = "getUserFallback")
     private UserResponse getUser(Long userId) {
         logger.debug("Fetching user details for: {}", userId);
-        return userClient.getUserById(userId);
+        try {
+            // Near cache: serves the last known user while user-service is down
+            return userCache.get(userId);
+        } catch (UserServiceUnavailableException e) {
+            return getUserFallback(userId, e);
+        }
     }
 
     private UserResponse getUserFallback(Long userId, Throwable t) {
         logger.warn("FALLBACK: Could not fetch user {}. Error: {}", userId, t.getMessage());
+        return fallbackUser(userId);
+    }
+
+    // Both lookups apply the userService circuit breaker to their own
+    // user-service calls and fill in placeholders for users they cannot load
+    private Map<Long, UserResponse> getUsers(Collection<Long> userIds) {
+        logger.debug("Fetching user details for {} users", userIds.size());
+        if (batchUserLookup) {
+            return userCache.getAll(userIds, this::fallbackUser);
+        }
+        return parallelUserLookup.getAll(userIds, this::fallbackUser);
+    }
+
+    private UserResponse fallbackUser(Long userId) {
         UserResponse fallback = new UserResponse();
         fallback.setId(userId);
         fallback.setName("Unknown User (Service Unavailable)");
         fallback.setEmail("unavailable@fallback.local");
         fallback.setDepartment("N/A");
+        fallback.setFallback(true);
         return fallback;
     }
 
-    @CircuitBreaker(name = "notificationService", fallbackMethod = "sendNotificationFallback")
+    // ==================== Notifications ====================
+
+    /**
+     * Queue a notification in the outbox, in the current transaction.
+     * OutboxPublisher sends it once the transaction has committed.
+     */
     private void sendTaskNotification(String type, String message, Long userId, Long taskId) {
-        logger.info("Sending notification - type: {}, userId: {}, taskId: {}", type, userId, taskId);
+        logger.info("Queueing notification - type: {}, userId: {}, taskId: {}", type, userId, taskId);
+        notificationOutbox.enqueue(type, message, userId, taskId);
+    }
 
-        try {
-            notificationClient.sendNotification(Map.of(
-                    "type", type,
-                    "message", message,
-                    "userId", userId != null ? userId : 0,
-                    "taskId", taskId
-            ));
-            logger.info("Notification sent successfully");
-        } catch (Exception e) {
-            logger.error("Failed to send notification: {}", e.getMessage());
-            // Don't throw - notifications are fire-and-forget
+    // ==================== Helper Methods ====================
+
+    /**
+     * Map a list of tasks, fetching all assigned users that are not in the
+     * near cache with one batch call instead of one call per task (or with
+     * parallel per-user calls, see ParallelUserLookup).
+     */
+    private List<TaskResponse> mapToResponsesWithUsers(List<Task> tasks) {
+        Set<Long> userIds = tasks.stream()
+                .map(Task::getAssignedUserId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<Long, UserResponse> users = Map.of();
+        if (!userIds.isEmpty()) {
+            try {
+                users = getUsers(userIds);
+            } catch (Exception e) {
+                logger.warn("Could not fetch users for {} tasks: {}", tasks.size(), e.getMessage());
+            }
         }
-    }
 
-    private void sendNotificationFallback(String type, String message, Long userId, Long taskId, Throwable t) {
-        logger.warn("FALLBACK: Notification service unavailable. Type: {}, TaskId: {}. Error: {}",
-                type, taskId, t.getMessage());
-        // Log the notification that couldn't be sent
-        // In production, you might queue this for retry
-    }
+        List<TaskResponse> responses = new ArrayList<>(tasks.size());
+        int fallbacks = 0;
+        for (Task task : tasks) {
+            TaskResponse response = TaskResponse.fromEntity(task);
+            if (task.getAssignedUserId() != null) {
+                UserResponse user = users.get(task.getAssignedUserId());
+                response.setAssignedUser(user);
+                if (user != null && user.isFallback()) {
+                    fallbacks++;
+                }
+            }
+            responses.add(response);
+        }
 
-    // ==================== Helper Methods ====================
+        if (fallbacks > 0) {
+            fallbackUsers.increment(fallbacks);
+            logger.warn("{} of {} tasks enriched with a placeholder user", fallbacks, tasks.size());
+        }
+        return responses;
+    }
 
     private TaskResponse mapToResponseWithUser(Task task) {
         TaskResponse response = TaskResponse.fromEntity(task);
@@ -0,0 +1,71 @@
+package com.example.userservice.cache;
+
+import com.example.userservice.event.UserChangedEvent;
+import com.example.userservice.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Current token version per user id, for revoking tokens without reading
+ * the user on every request.
+ *
+ * A token is accepted only if its ver claim matches the user's version;
+ * a deleted user has none. Versions are read from the database on a miss
+ * and kept for ttl, and dropped as soon as a user change commits, so a
+ * revocation in this instance applies at once and one made elsewhere
+ * within ttl.
+ *
+ * Disabled with jwt.revocation.enabled=false: tokens are then trusted
+ * until they expire. Hit/miss counts are exported as cache.* metrics
+ * (cache=token-versions).
+ */
+@Component
+public class TokenVersionCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenVersionCache.class);
+
+    // Cached for users that do not exist, matches no token
+    private static final long NO_USER = -1;
+
+    private final boolean enabled;
+    private final LoadingCache<Long, Long> cache;
+
+    public TokenVersionCache(UserRepository userRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${jwt.revocation.enabled:true}") boolean enabled,
+                             @Value("${jwt.revocation.max-size:10000}") long maxSize,
+                             @Value("${jwt.revocation.ttl:30s}") Duration ttl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(userId -> userRepository.findTokenVersionById(userId).orElse(NO_USER));
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "token-versions");
+        logger.info("Token revocation check: enabled={}, maxSize={}, ttl={}", enabled, maxSize, ttl);
+    }
+
+    /**
+     * Whether a token with this version is still current for the user.
+     */
+    public boolean isCurrent(Long userId, long tokenVersion) {
+        return !enabled || cache.get(userId) == tokenVersion;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserChanged(UserChangedEvent event) {
+        logger.debug("Dropping token version of user {} ({})", event.userId(), event.type());
+        cache.invalidate(event.userId());
+    }
+}
@@ -10,8 +10,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/users")
@@ -19,6 +21,9 @@ public class UserController {
 
     private static final Logger logger = LoggerFactory.getLogger(UserController.class);
 
+    // Upper bound for POST /api/users/batch (keeps the IN (...) list reasonable)
+    static final int MAX_BATCH_SIZE = 1000;
+
     private final UserService userService;
 
     public UserController(UserService userService) {
@@ -57,6 +62,27 @@ public class UserController {
         return ResponseEntity.ok(Map.of("exists", exists));
     }
 
+    /**
+     * Batch lookup used by task-service to enrich task lists with one
+     * round trip instead of one GET per task.
+     *
+     * Request body: [1, 2, 3]
+     * Response:     {"1": {...}, "3": {...}}  (unknown ids are omitted)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<?> getUsersByIds(@RequestBody List<Long> ids) {
+        logger.debug("POST /api/users/batch - {} ids", ids.size());
+
+        if (ids.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "At most " + MAX_BATCH_SIZE + " ids per request"));
+        }
+
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        distinctIds.remove(null);
+        return ResponseEntity.ok(userService.getUsersByIds(distinctIds));
+    }
+
     @PostMapping
     public ResponseEntity<?> createUser(@Valid @RequestBody UserRequest request) {
         logger.debug("POST /api/users - email: {}", request.getEmail());
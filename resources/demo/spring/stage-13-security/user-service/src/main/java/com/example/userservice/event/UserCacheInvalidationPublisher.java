@@ -0,0 +1,73 @@
+package com.example.userservice.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Tells services that cache users (task-service's near cache) to drop a
+ * user after it changed.
+ *
+ * Runs after the transaction commits, on an async thread, so the update
+ * request does not wait for it. Every instance registered in Eureka under
+ * the configured service names gets
+ *   DELETE {instance}/internal/cache/users/{id}
+ * A failed callback is only logged: the cache's refresh interval bounds
+ * how long the stale user can be served.
+ */
+@Component
+public class UserCacheInvalidationPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserCacheInvalidationPublisher.class);
+
+    private final DiscoveryClient discoveryClient;
+    private final List<String> subscriberServices;
+    private final RestClient restClient;
+
+    public UserCacheInvalidationPublisher(
+            DiscoveryClient discoveryClient,
+            @Value("${user-cache.invalidation.services:task-service}") List<String> subscriberServices,
+            @Value("${user-cache.invalidation.timeout:2s}") Duration timeout) {
+        this.discoveryClient = discoveryClient;
+        this.subscriberServices = subscriberServices;
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) timeout.toMillis());
+        requestFactory.setReadTimeout((int) timeout.toMillis());
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserChanged(UserChangedEvent event) {
+        for (String service : subscriberServices) {
+            for (ServiceInstance instance : discoveryClient.getInstances(service)) {
+                invalidate(instance, event);
+            }
+        }
+    }
+
+    private void invalidate(ServiceInstance instance, UserChangedEvent event) {
+        try {
+            restClient.delete()
+                    .uri(instance.getUri() + "/internal/cache/users/{id}", event.userId())
+                    .retrieve()
+                    .toBodilessEntity();
+            logger.debug("Invalidated user {} ({}) at {}", event.userId(), event.type(), instance.getUri());
+        } catch (Exception e) {
+            logger.warn("Could not invalidate user {} at {}: {}",
+                    event.userId(), instance.getUri(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.userservice.event;
+
+/**
+ * Published by UserService when a user is updated or deleted.
+ *
+ * Local stand-in for a message on a broker topic: listeners run in this
+ * process (see UserCacheInvalidationPublisher).
+ */
+public record UserChangedEvent(Long userId, ChangeType type) {
+
+    public enum ChangeType {
+        UPDATED, DELETED
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.userservice.filter;
 
+import com.example.userservice.cache.TokenVersionCache;
 import com.example.userservice.service.JwtService;
+import com.example.userservice.service.JwtService.TokenClaims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,26 +12,30 @@ import org.slf4j.LoggerFactory;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+/**
+ * Authenticates requests from the token's claims alone: the token is
+ * parsed once and the user is not read from the database. The principal
+ * is the user's email. Revoked tokens are caught by TokenVersionCache.
+ */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final TokenVersionCache tokenVersionCache;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, TokenVersionCache tokenVersionCache) {
         this.jwtService = jwtService;
-        this.userDetailsService = userDetailsService;
+        this.tokenVersionCache = tokenVersionCache;
     }
 
     @Override
@@ -47,22 +53,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             final String jwt = authHeader.substring(7);
-            final String userEmail = jwtService.extractUsername(jwt);
-
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-            if (userEmail != null && authentication == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+            if (authentication == null) {
+                // Verifies signature and expiry
+                TokenClaims claims = jwtService.parseToken(jwt);
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (claims.username() != null
+                        && tokenVersionCache.isCurrent(claims.userId(), claims.tokenVersion())) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
+                            claims.username(),
                             null,
-                            userDetails.getAuthorities()
+                            AuthorityUtils.createAuthorityList(claims.authorities())
                     );
 
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
+                } else {
+                    logger.debug("Rejecting revoked token of user {}", claims.userId());
                 }
             }
         } catch (Exception e) {
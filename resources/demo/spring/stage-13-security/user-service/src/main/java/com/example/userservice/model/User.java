@@ -33,6 +33,10 @@ public class User implements UserDetails {
     @Column(length = 50)
     private String department;
 
+    // Carried in issued tokens; raising it revokes them
+    @Column(name = "token_version", nullable = false)
+    private long tokenVersion;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -60,6 +64,13 @@ public class User implements UserDetails {
         updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Invalidate all tokens issued to this user so far.
+     */
+    public void revokeTokens() {
+        tokenVersion++;
+    }
+
     // UserDetails implementation
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -141,6 +152,14 @@ public class User implements UserDetails {
         this.department = department;
     }
 
+    public long getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public void setTokenVersion(long tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
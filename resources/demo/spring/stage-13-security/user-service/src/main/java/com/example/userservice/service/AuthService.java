@@ -6,6 +6,7 @@ import com.example.userservice.dto.RegisterRequest;
 import com.example.userservice.model.Role;
 import com.example.userservice.model.User;
 import com.example.userservice.repository.UserRepository;
+import com.example.userservice.service.JwtService.TokenClaims;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -70,12 +71,18 @@ public class AuthService {
         }
 
         String token = authHeader.substring(7);
-        String username = jwtService.extractUsername(token);
+        TokenClaims claims;
+        try {
+            claims = jwtService.parseToken(token);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid or expired token");
+        }
 
-        User user = userRepository.findByEmail(username)
+        User user = userRepository.findByEmail(claims.username())
             .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
-        if (!jwtService.isTokenValid(token, user)) {
+        // Revoked tokens cannot be refreshed
+        if (claims.tokenVersion() != user.getTokenVersion()) {
             throw new IllegalArgumentException("Invalid or expired token");
         }
 
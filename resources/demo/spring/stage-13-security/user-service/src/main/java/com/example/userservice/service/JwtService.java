@@ -1,26 +1,59 @@
 package com.example.userservice.service;
 
+import com.example.userservice.model.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
+/**
+ * Issues and verifies tokens.
+ *
+ * Tokens carry everything needed to authenticate a request, so
+ * JwtAuthenticationFilter does not read the user from the database:
+ * - sub:         email
+ * - uid:         user id
+ * - authorities: granted authorities (ROLE_USER, ROLE_ADMIN)
+ * - ver:         the user's token version; raising it revokes the user's
+ *                tokens (see TokenVersionCache)
+ *
+ * The signing key and parser are built once; JwtParser is thread-safe.
+ */
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String AUTHORITIES_CLAIM = "authorities";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
 
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
+    /** Claims of a verified token. */
+    public record TokenClaims(String username, Long userId, long tokenVersion, List<String> authorities) {
+    }
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long jwtExpiration;
+
+    public JwtService(@Value("${jwt.secret}") String secretKey,
+                      @Value("${jwt.expiration}") long jwtExpiration) {
+        this.signingKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKey));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.jwtExpiration = jwtExpiration;
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
@@ -31,12 +64,44 @@ public class JwtService {
         return claimsResolver.apply(claims);
     }
 
+    /**
+     * Verify the token (signature and expiry) and read its claims, with a
+     * single parse.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is invalid or expired
+     * @throws IllegalArgumentException if the token lacks the uid or ver
+     *         claims (issued before they were added); the client logs in again
+     */
+    public TokenClaims parseToken(String token) {
+        Claims claims = extractAllClaims(token);
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        Number tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Number.class);
+        if (userId == null || tokenVersion == null) {
+            throw new IllegalArgumentException("Token has no " + USER_ID_CLAIM + "/" + TOKEN_VERSION_CLAIM + " claims");
+        }
+
+        List<?> authorities = claims.get(AUTHORITIES_CLAIM, List.class);
+        return new TokenClaims(
+                claims.getSubject(),
+                userId.longValue(),
+                tokenVersion.longValue(),
+                authorities == null ? List.of() : authorities.stream().map(String::valueOf).toList());
+    }
+
     public String generateToken(UserDetails userDetails) {
         return generateToken(new HashMap<>(), userDetails);
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-        return buildToken(extraClaims, userDetails, jwtExpiration);
+        Map<String, Object> claims = new HashMap<>(extraClaims);
+        claims.put(AUTHORITIES_CLAIM, userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+        if (userDetails instanceof User user) {
+            claims.put(USER_ID_CLAIM, user.getId());
+            claims.put(TOKEN_VERSION_CLAIM, user.getTokenVersion());
+        }
+        return buildToken(claims, userDetails, jwtExpiration);
     }
 
     public long getExpirationTime() {
@@ -53,33 +118,11 @@ public class JwtService {
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = java.util.Base64.getDecoder().decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return parser.parseSignedClaims(token).getPayload();
     }
 }
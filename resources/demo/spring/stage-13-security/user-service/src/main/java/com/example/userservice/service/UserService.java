@@ -2,14 +2,20 @@ package com.example.userservice.service;
 
 import com.example.userservice.dto.UserRequest;
 import com.example.userservice.dto.UserResponse;
+import com.example.userservice.event.UserChangedEvent;
+import com.example.userservice.event.UserChangedEvent.ChangeType;
 import com.example.userservice.model.User;
 import com.example.userservice.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -20,9 +26,11 @@ public class UserService {
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<UserResponse> getAllUsers() {
@@ -38,6 +46,19 @@ public class UserService {
                 .map(UserResponse::fromEntity);
     }
 
+    /**
+     * Look up many users in one query (WHERE id IN (...)).
+     * Unknown ids are simply absent from the result.
+     */
+    public Map<Long, UserResponse> getUsersByIds(Collection<Long> ids) {
+        logger.debug("Fetching {} users by id", ids.size());
+        Map<Long, UserResponse> users = new LinkedHashMap<>();
+        for (User user : userRepository.findAllById(ids)) {
+            users.put(user.getId(), UserResponse.fromEntity(user));
+        }
+        return users;
+    }
+
     public Optional<UserResponse> getUserByEmail(String email) {
         logger.debug("Fetching user with email: {}", email);
         return userRepository.findByEmail(email)
@@ -82,6 +103,11 @@ public class UserService {
                             "User with email " + request.getEmail() + " already exists");
                     }
 
+                    // Tokens name the user by email, so issued tokens no longer fit
+                    if (!existingUser.getEmail().equals(request.getEmail())) {
+                        existingUser.revokeTokens();
+                    }
+
                     existingUser.setName(request.getName());
                     existingUser.setEmail(request.getEmail());
                     existingUser.setDepartment(request.getDepartment());
@@ -89,6 +115,9 @@ public class UserService {
                     User updatedUser = userRepository.save(existingUser);
                     logger.info("Updated user with id: {}", updatedUser.getId());
 
+                    // Caches in other services drop the user once this commits
+                    eventPublisher.publishEvent(new UserChangedEvent(id, ChangeType.UPDATED));
+
                     return UserResponse.fromEntity(updatedUser);
                 });
     }
@@ -99,6 +128,7 @@ public class UserService {
         if (userRepository.existsById(id)) {
             userRepository.deleteById(id);
             logger.info("Deleted user with id: {}", id);
+            eventPublisher.publishEvent(new UserChangedEvent(id, ChangeType.DELETED));
             return true;
         }
 
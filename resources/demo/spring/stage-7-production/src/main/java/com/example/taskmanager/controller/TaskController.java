@@ -30,14 +30,12 @@ public class TaskController {
 
     /**
      * GET /api/tasks
-     * Returns all tasks.
+     * Returns all tasks, without their descriptions
+     * (GET /api/tasks/{id} returns the full task).
      */
     @GetMapping
     public List<TaskResponse> getAllTasks() {
-        return taskService.getAllTasks()
-                .stream()
-                .map(TaskResponse::fromEntity)
-                .toList();
+        return taskService.getAllTasks();
     }
 
     /**
@@ -104,13 +102,10 @@ public class TaskController {
 
     /**
      * GET /api/tasks/status/{status}
-     * Returns tasks filtered by status.
+     * Returns tasks filtered by status, without their descriptions.
      */
     @GetMapping("/status/{status}")
     public List<TaskResponse> getTasksByStatus(@PathVariable TaskStatus status) {
-        return taskService.getTasksByStatus(status)
-                .stream()
-                .map(TaskResponse::fromEntity)
-                .toList();
+        return taskService.getTasksByStatus(status);
     }
 }
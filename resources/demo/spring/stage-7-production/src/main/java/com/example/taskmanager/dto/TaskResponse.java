@@ -22,6 +22,14 @@ public record TaskResponse(
     TaskStatus status,
     LocalDateTime createdAt
 ) {
+    /**
+     * Summary for list views, without the description.
+     * Built directly by the TaskRepository projection queries.
+     */
+    public TaskResponse(Long id, String title, TaskStatus status, LocalDateTime createdAt) {
+        this(id, title, null, status, createdAt);
+    }
+
     /**
      * Factory method to convert Task entity to TaskResponse DTO.
      */
@@ -1,14 +1,24 @@
 package com.example.taskmanager.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.time.LocalDateTime;
 
 /**
  * JPA Entity - internal database representation.
  * NOT exposed directly to API - TaskResponse DTO is used instead.
+ *
+ * Cached in the second-level cache (region "tasks", see ehcache.xml):
+ * findById is served from memory once a task has been read. READ_WRITE
+ * keeps the cache consistent with the database: saves and deletes
+ * through Hibernate update or remove the cached entry on commit.
  */
 @Entity
 @Table(name = "tasks")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tasks")
 public class Task {
 
     @Id
@@ -1,8 +1,14 @@
 package com.example.taskmanager.repository;
 
+import com.example.taskmanager.dto.TaskResponse;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,4 +21,20 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findAllByOrderByCreatedAtDesc();
 
     List<Task> findByStatusOrderByCreatedAtDesc(TaskStatus status);
+
+    // List views select straight into TaskResponse: no entities, no
+    // persistence context entries, and the TEXT description is not read.
+
+    @Query("""
+            SELECT new com.example.taskmanager.dto.TaskResponse(t.id, t.title, t.status, t.createdAt)
+            FROM Task t ORDER BY t.createdAt DESC""")
+    List<TaskResponse> findAllSummaries();
+
+    // Query cache: GET /api/tasks/status/{status} is served from memory
+    // until a task is inserted, updated or deleted
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("""
+            SELECT new com.example.taskmanager.dto.TaskResponse(t.id, t.title, t.status, t.createdAt)
+            FROM Task t WHERE t.status = :status ORDER BY t.createdAt DESC""")
+    List<TaskResponse> findSummariesByStatus(@Param("status") TaskStatus status);
 }
@@ -1,5 +1,6 @@
 package com.example.taskmanager.service;
 
+import com.example.taskmanager.dto.TaskResponse;
 import com.example.taskmanager.exception.TaskNotFoundException;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
@@ -15,6 +16,11 @@ import java.util.List;
  * CHANGES FROM STAGE 6:
  * - Throws TaskNotFoundException instead of IllegalArgumentException
  * - Returns Task directly instead of Optional (controller handles not found)
+ *
+ * Reads: list methods return TaskResponse summaries selected straight
+ * from the database (no description, no managed entities). Single-task
+ * reads load the entity in a read-only transaction, which Spring runs
+ * with a read-only Hibernate session and manual flush.
  */
 @Service
 @Transactional
@@ -32,8 +38,8 @@ public class TaskService {
     }
 
     @Transactional(readOnly = true)
-    public List<Task> getAllTasks() {
-        return taskRepository.findAllByOrderByCreatedAtDesc();
+    public List<TaskResponse> getAllTasks() {
+        return taskRepository.findAllSummaries();
     }
 
     @Transactional(readOnly = true)
@@ -66,7 +72,7 @@ public class TaskService {
     }
 
     @Transactional(readOnly = true)
-    public List<Task> getTasksByStatus(TaskStatus status) {
-        return taskRepository.findByStatusOrderByCreatedAtDesc(status);
+    public List<TaskResponse> getTasksByStatus(TaskStatus status) {
+        return taskRepository.findSummariesByStatus(status);
     }
 }
@@ -1,14 +1,27 @@
 package com.example.taskmanager.controller;
 
 import com.example.taskmanager.dto.*;
+import com.example.taskmanager.exception.InvalidBulkRequestException;
+import com.example.taskmanager.exception.InvalidExportFormatException;
+import com.example.taskmanager.exception.InvalidPageRequestException;
+import com.example.taskmanager.export.ExportFormat;
+import com.example.taskmanager.export.TaskExportWriter;
 import com.example.taskmanager.model.TaskStatus;
 import com.example.taskmanager.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -20,19 +33,81 @@ public class TaskController {
 
     private static final Logger log = LoggerFactory.getLogger(TaskController.class);
 
+    // Page size bounds for the paginated listings
+    static final int DEFAULT_LIMIT = 20;
+    static final int MAX_LIMIT = 100;
+
+    // Items per bulk request; larger loads are sent as several requests
+    static final int MAX_BULK_ITEMS = 10_000;
+
     private final TaskService taskService;
+    private final ObjectMapper objectMapper;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, ObjectMapper objectMapper) {
         this.taskService = taskService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
     public List<TaskResponse> getAllTasks() {
         log.info("GET /api/tasks - Fetching all tasks");
-        return taskService.getAllTasks()
-                .stream()
-                .map(TaskResponse::fromEntity)
-                .toList();
+        return taskService.getAllTasks();
+    }
+
+    /**
+     * Tasks page by page, newest first: used instead of the full list as
+     * soon as limit or cursor is given. The cursor comes from the
+     * previous page's nextCursor.
+     */
+    @GetMapping(params = {"limit"})
+    public TaskSlice getTasks(
+            @RequestParam int limit,
+            @RequestParam(required = false) String cursor) {
+        log.info("GET /api/tasks - Fetching {} tasks after cursor {}", limit, cursor);
+        return toTaskSlice(taskService.getTasks(decodeCursor(cursor), checkLimit(limit)));
+    }
+
+    @GetMapping(params = {"cursor", "!limit"})
+    public TaskSlice getTasks(@RequestParam String cursor) {
+        return getTasks(DEFAULT_LIMIT, cursor);
+    }
+
+    /**
+     * All tasks as NDJSON (default) or CSV, written while they are read
+     * from the database: nothing is buffered beyond the current row, and
+     * the response starts with the first task. Runs on an async request
+     * thread, bounded by spring.mvc.async.request-timeout.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(defaultValue = "ndjson") String format) {
+        log.info("GET /api/tasks/export - Exporting tasks as {}", format);
+
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        if (exportFormat == null) {
+            throw new InvalidExportFormatException(format);
+        }
+
+        StreamingResponseBody body = out -> {
+            try (TaskExportWriter writer = exportFormat.open(out, objectMapper)) {
+                taskService.exportTasks(task -> {
+                    try {
+                        writer.write(task);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(exportFormat.getFileName())
+                        .build()
+                        .toString())
+                .body(body);
     }
 
     @GetMapping("/{id}")
@@ -50,6 +125,17 @@ public class TaskController {
         );
     }
 
+    /**
+     * Create up to MAX_BULK_ITEMS tasks at once. Items are validated one by
+     * one: invalid items are reported and skipped, not rejected with the
+     * whole request.
+     */
+    @PostMapping("/bulk")
+    public BulkResponse createTasks(@RequestBody List<CreateTaskRequest> requests) {
+        log.info("POST /api/tasks/bulk - Creating {} tasks", requests.size());
+        return BulkResponse.of(taskService.createTasks(checkBulkSize(requests)));
+    }
+
     @PutMapping("/{id}")
     public TaskResponse updateTask(
             @PathVariable Long id,
@@ -70,6 +156,16 @@ public class TaskController {
         );
     }
 
+    /**
+     * Change the status of up to MAX_BULK_ITEMS tasks at once, reported
+     * per item like POST /bulk.
+     */
+    @PatchMapping("/bulk/status")
+    public BulkResponse updateTaskStatuses(@RequestBody List<StatusChangeRequest> changes) {
+        log.info("PATCH /api/tasks/bulk/status - Updating {} tasks", changes.size());
+        return BulkResponse.of(taskService.updateTaskStatuses(checkBulkSize(changes)));
+    }
+
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteTask(@PathVariable Long id) {
@@ -80,9 +176,46 @@ public class TaskController {
     @GetMapping("/status/{status}")
     public List<TaskResponse> getTasksByStatus(@PathVariable TaskStatus status) {
         log.info("GET /api/tasks/status/{} - Fetching tasks by status", status);
-        return taskService.getTasksByStatus(status)
-                .stream()
-                .map(TaskResponse::fromEntity)
-                .toList();
+        return taskService.getTasksByStatus(status);
+    }
+
+    @GetMapping(value = "/status/{status}", params = {"limit"})
+    public TaskSlice getTasksByStatus(
+            @PathVariable TaskStatus status,
+            @RequestParam int limit,
+            @RequestParam(required = false) String cursor) {
+        log.info("GET /api/tasks/status/{} - Fetching {} tasks after cursor {}", status, limit, cursor);
+        return toTaskSlice(taskService.getTasksByStatus(status, decodeCursor(cursor), checkLimit(limit)));
+    }
+
+    @GetMapping(value = "/status/{status}", params = {"cursor", "!limit"})
+    public TaskSlice getTasksByStatus(@PathVariable TaskStatus status, @RequestParam String cursor) {
+        return getTasksByStatus(status, DEFAULT_LIMIT, cursor);
+    }
+
+    private static TaskCursor decodeCursor(String cursor) {
+        return cursor == null || cursor.isEmpty() ? null : TaskCursor.decode(cursor);
+    }
+
+    private static int checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidPageRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+
+    private static <T> List<T> checkBulkSize(List<T> items) {
+        if (items.size() > MAX_BULK_ITEMS) {
+            throw new InvalidBulkRequestException(
+                    "A bulk request takes at most " + MAX_BULK_ITEMS + " items, got " + items.size());
+        }
+        return items;
+    }
+
+    private static TaskSlice toTaskSlice(Slice<TaskResponse> slice) {
+        String nextCursor = slice.hasNext()
+                ? TaskCursor.of(slice.getContent().get(slice.getNumberOfElements() - 1)).encode()
+                : null;
+        return new TaskSlice(slice.getContent(), nextCursor, slice.hasNext());
     }
 }
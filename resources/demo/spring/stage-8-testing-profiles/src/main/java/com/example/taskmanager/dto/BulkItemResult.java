@@ -0,0 +1,39 @@
+package com.example.taskmanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one item of a bulk request; index is its position in the
+ * request array.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkItemResult(
+    int index,
+    Long id,
+    Outcome outcome,
+    String error
+) {
+    public enum Outcome {
+        CREATED, UPDATED, INVALID, NOT_FOUND
+    }
+
+    public static BulkItemResult created(int index, Long id) {
+        return new BulkItemResult(index, id, Outcome.CREATED, null);
+    }
+
+    public static BulkItemResult updated(int index, Long id) {
+        return new BulkItemResult(index, id, Outcome.UPDATED, null);
+    }
+
+    public static BulkItemResult invalid(int index, Long id, String error) {
+        return new BulkItemResult(index, id, Outcome.INVALID, error);
+    }
+
+    public static BulkItemResult notFound(int index, Long id) {
+        return new BulkItemResult(index, id, Outcome.NOT_FOUND, "Task not found with id: " + id);
+    }
+
+    public boolean succeeded() {
+        return outcome == Outcome.CREATED || outcome == Outcome.UPDATED;
+    }
+}
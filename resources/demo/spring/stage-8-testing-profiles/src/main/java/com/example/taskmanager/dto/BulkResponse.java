@@ -0,0 +1,18 @@
+package com.example.taskmanager.dto;
+
+import java.util.List;
+
+/**
+ * Response of the bulk endpoints: counts plus one result per request item,
+ * in request order.
+ */
+public record BulkResponse(
+    int succeeded,
+    int failed,
+    List<BulkItemResult> items
+) {
+    public static BulkResponse of(List<BulkItemResult> items) {
+        int succeeded = (int) items.stream().filter(BulkItemResult::succeeded).count();
+        return new BulkResponse(succeeded, items.size() - succeeded, items);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.model.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * One item of PATCH /api/tasks/bulk/status.
+ */
+public record StatusChangeRequest(
+    @NotNull(message = "Id is required")
+    Long id,
+
+    @NotNull(message = "Status is required")
+    TaskStatus status
+) {}
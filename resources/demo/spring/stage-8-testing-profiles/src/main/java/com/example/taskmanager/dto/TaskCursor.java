@@ -0,0 +1,38 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.exception.InvalidPageRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in the task listing: the (createdAt, id) of the last task of
+ * a page. Sent to clients as an opaque string; the next page starts
+ * right after it.
+ */
+public record TaskCursor(LocalDateTime createdAt, Long id) {
+
+    public static TaskCursor of(TaskResponse task) {
+        return new TaskCursor(task.createdAt(), task.id());
+    }
+
+    public String encode() {
+        String value = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf('|');
+            return new TaskCursor(
+                    LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new InvalidPageRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
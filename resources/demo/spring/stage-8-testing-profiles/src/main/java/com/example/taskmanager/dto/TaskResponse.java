@@ -12,6 +12,14 @@ public record TaskResponse(
     TaskStatus status,
     LocalDateTime createdAt
 ) {
+    /**
+     * Summary for list views, without the description.
+     * Built directly by the TaskRepository projection queries.
+     */
+    public TaskResponse(Long id, String title, TaskStatus status, LocalDateTime createdAt) {
+        this(id, title, null, status, createdAt);
+    }
+
     public static TaskResponse fromEntity(Task task) {
         return new TaskResponse(
             task.getId(),
@@ -0,0 +1,14 @@
+package com.example.taskmanager.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing. Pass nextCursor as cursor to
+ * get the next page; it is absent on the last page.
+ */
+public record TaskSlice(
+    List<TaskResponse> content,
+    String nextCursor,
+    boolean hasNext
+) {
+}
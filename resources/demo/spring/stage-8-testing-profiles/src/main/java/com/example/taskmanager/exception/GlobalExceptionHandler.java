@@ -27,6 +27,17 @@ public class GlobalExceptionHandler {
         return new ErrorResponse("NOT_FOUND", ex.getMessage());
     }
 
+    @ExceptionHandler({
+            InvalidPageRequestException.class,
+            InvalidExportFormatException.class,
+            InvalidBulkRequestException.class
+    })
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleInvalidRequest(RuntimeException ex) {
+        log.warn("Bad request: {}", ex.getMessage());
+        return new ErrorResponse("BAD_REQUEST", ex.getMessage());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleValidationErrors(MethodArgumentNotValidException ex) {
@@ -0,0 +1,11 @@
+package com.example.taskmanager.exception;
+
+/**
+ * Bulk request that cannot be processed at all (e.g. too many items).
+ */
+public class InvalidBulkRequestException extends RuntimeException {
+
+    public InvalidBulkRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.taskmanager.exception;
+
+/**
+ * Unknown format requested from the task export.
+ */
+public class InvalidExportFormatException extends RuntimeException {
+
+    public InvalidExportFormatException(String format) {
+        super("Unknown export format: " + format + ". Allowed: ndjson, csv");
+    }
+}
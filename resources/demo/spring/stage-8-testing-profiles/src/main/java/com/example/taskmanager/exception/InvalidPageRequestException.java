@@ -0,0 +1,11 @@
+package com.example.taskmanager.exception;
+
+/**
+ * Bad limit or cursor for a paginated listing.
+ */
+public class InvalidPageRequestException extends RuntimeException {
+
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.taskmanager.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Formats of GET /api/tasks/export.
+ */
+public enum ExportFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON, "tasks.ndjson") {
+        @Override
+        public TaskExportWriter open(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            return TaskExportWriter.ndjson(out, objectMapper);
+        }
+    },
+
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "tasks.csv") {
+        @Override
+        public TaskExportWriter open(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            return TaskExportWriter.csv(out);
+        }
+    };
+
+    private final MediaType mediaType;
+    private final String fileName;
+
+    ExportFormat(MediaType mediaType, String fileName) {
+        this.mediaType = mediaType;
+        this.fileName = fileName;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public abstract TaskExportWriter open(OutputStream out, ObjectMapper objectMapper) throws IOException;
+
+    /**
+     * The format for a format request parameter (case-insensitive), or null if unknown.
+     */
+    public static ExportFormat fromParameter(String format) {
+        for (ExportFormat value : values()) {
+            if (value.name().equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.taskmanager.export;
+
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.model.Task;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes exported tasks one at a time, so an export never holds more
+ * than the writer's buffer. The first task is flushed right away, so
+ * the client sees data immediately; after that the buffer is flushed
+ * whenever it fills. Closing a writer does not close the stream.
+ */
+public abstract class TaskExportWriter implements Closeable {
+
+    private long written;
+
+    public void write(Task task) throws IOException {
+        writeTask(task);
+        if (++written == 1) {
+            flush();
+        }
+    }
+
+    protected long getWritten() {
+        return written;
+    }
+
+    protected abstract void writeTask(Task task) throws IOException;
+
+    protected abstract void flush() throws IOException;
+
+    /**
+     * One JSON object per line, written with the application's
+     * ObjectMapper settings (ISO dates, no null fields).
+     */
+    static TaskExportWriter ndjson(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(new SerializedString("\n"));
+
+        return new TaskExportWriter() {
+            @Override
+            protected void writeTask(Task task) throws IOException {
+                generator.writeObject(TaskResponse.fromEntity(task));
+            }
+
+            @Override
+            protected void flush() throws IOException {
+                generator.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (getWritten() > 0) {
+                    generator.writeRaw('\n');
+                }
+                generator.close();
+            }
+        };
+    }
+
+    /**
+     * RFC 4180 CSV with a header line.
+     */
+    static TaskExportWriter csv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write("id,title,description,status,createdAt\r\n");
+
+        return new TaskExportWriter() {
+            @Override
+            protected void writeTask(Task task) throws IOException {
+                writer.write(String.valueOf(task.getId()));
+                writer.write(',');
+                writeField(writer, task.getTitle());
+                writer.write(',');
+                writeField(writer, task.getDescription());
+                writer.write(',');
+                writer.write(task.getStatus().name());
+                writer.write(',');
+                writer.write(String.valueOf(task.getCreatedAt()));
+                writer.write("\r\n");
+            }
+
+            @Override
+            protected void flush() throws IOException {
+                writer.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                // Flushed, not closed: the response stream belongs to the caller
+                writer.flush();
+            }
+        };
+    }
+
+    // Quoted if it contains a separator, quote or line break; quotes are doubled
+    private static void writeField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -2,13 +2,22 @@ package com.example.taskmanager.model;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+    // Keyset pagination: ORDER BY created_at DESC, id DESC, optionally per status
+    @Index(name = "idx_tasks_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_tasks_status_created_at_id", columnList = "status, created_at, id")
+})
 public class Task {
 
+    // Sequence ids, not IDENTITY: Hibernate cannot batch inserts whose id
+    // comes back from the insert itself. With the pooled optimizer one
+    // sequence call reserves allocationSize ids (a table on MySQL).
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -26,7 +35,9 @@ public class Task {
 
     public Task() {
         this.status = TaskStatus.PENDING;
-        this.createdAt = LocalDateTime.now();
+        // Stored with microsecond precision; keeping the same value in memory
+        // lets a page cursor taken from a new task match the stored row
+        this.createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 
     public Task(String title, String description) {
@@ -1,11 +1,20 @@
 package com.example.taskmanager.repository;
 
+import com.example.taskmanager.dto.TaskResponse;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
@@ -15,4 +24,59 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findAllByOrderByCreatedAtDesc();
 
     List<Task> findByStatusOrderByCreatedAtDesc(TaskStatus status);
+
+    // Export: rows are fetched from the driver 500 at a time instead
+    // of all at once (MySQL needs useCursorFetch=true for this). The stream
+    // must be consumed inside a transaction and closed.
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Task t ORDER BY t.id")
+    Stream<Task> streamAllForExport();
+
+    // List views select straight into TaskResponse: no entities, no
+    // persistence context entries, and the TEXT description is not read.
+
+    @Query("""
+            SELECT new com.example.taskmanager.dto.TaskResponse(t.id, t.title, t.status, t.createdAt)
+            FROM Task t ORDER BY t.createdAt DESC""")
+    List<TaskResponse> findAllSummaries();
+
+    @Query("""
+            SELECT new com.example.taskmanager.dto.TaskResponse(t.id, t.title, t.status, t.createdAt)
+            FROM Task t WHERE t.status = :status ORDER BY t.createdAt DESC""")
+    List<TaskResponse> findSummariesByStatus(@Param("status") TaskStatus status);
+
+    // Keyset pagination: newest first, id breaks ties between equal createdAt.
+    // A page seeks past the last task of the previous one instead of using
+    // OFFSET, so every page costs the same.
+
+    @Query("""
+            SELECT new com.example.taskmanager.dto.TaskResponse(t.id, t.title, t.status, t.createdAt)
+            FROM Task t ORDER BY t.createdAt DESC, t.id DESC""")
+    List<TaskResponse> findFirstPage(Limit limit);
+
+    @Query("""
+            SELECT new com.example.taskmanager.dto.TaskResponse(t.id, t.title, t.status, t.createdAt)
+            FROM Task t
+            WHERE t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)
+            ORDER BY t.createdAt DESC, t.id DESC""")
+    List<TaskResponse> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("""
+            SELECT new com.example.taskmanager.dto.TaskResponse(t.id, t.title, t.status, t.createdAt)
+            FROM Task t WHERE t.status = :status ORDER BY t.createdAt DESC, t.id DESC""")
+    List<TaskResponse> findFirstPageByStatus(@Param("status") TaskStatus status, Limit limit);
+
+    @Query("""
+            SELECT new com.example.taskmanager.dto.TaskResponse(t.id, t.title, t.status, t.createdAt)
+            FROM Task t
+            WHERE t.status = :status
+              AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id))
+            ORDER BY t.createdAt DESC, t.id DESC""")
+    List<TaskResponse> findPageByStatusAfter(@Param("status") TaskStatus status,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Limit limit);
 }
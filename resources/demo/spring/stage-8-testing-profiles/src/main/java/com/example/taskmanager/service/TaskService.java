@@ -1,15 +1,34 @@
 package com.example.taskmanager.service;
 
+import com.example.taskmanager.dto.BulkItemResult;
+import com.example.taskmanager.dto.CreateTaskRequest;
+import com.example.taskmanager.dto.StatusChangeRequest;
+import com.example.taskmanager.dto.TaskCursor;
+import com.example.taskmanager.dto.TaskResponse;
 import com.example.taskmanager.exception.TaskNotFoundException;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
 import com.example.taskmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Business logic layer with SLF4J logging.
@@ -18,6 +37,12 @@ import java.util.List;
  * - Logger instance for structured logging
  * - Log messages at appropriate levels
  * - Parameterized log messages (no string concatenation)
+ *
+ * Reads: list methods return TaskResponse summaries selected straight
+ * from the database (no description, no managed entities). Single-task
+ * reads load the entity in a read-only transaction, which Spring runs
+ * with a read-only Hibernate session and manual flush, so no dirty-check
+ * snapshot is kept and nothing is flushed.
  */
 @Service
 @Transactional
@@ -26,10 +51,18 @@ public class TaskService {
     // SLF4J Logger - one per class
     private static final Logger log = LoggerFactory.getLogger(TaskService.class);
 
+    // Bulk writes flush and clear the persistence context every BULK_CHUNK_SIZE
+    // items, keeping it small; matches hibernate.jdbc.batch_size
+    static final int BULK_CHUNK_SIZE = 50;
+
     private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
 
-    public TaskService(TaskRepository taskRepository) {
+    public TaskService(TaskRepository taskRepository, EntityManager entityManager, Validator validator) {
         this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.validator = validator;
         log.info("TaskService initialized");
     }
 
@@ -43,14 +76,137 @@ public class TaskService {
         return saved;
     }
 
+    /**
+     * Create many tasks in one transaction, with batched inserts: ids come
+     * from the pooled sequence, so Hibernate sends the inserts in JDBC
+     * batches when the persistence context is flushed.
+     *
+     * Invalid items are skipped and reported as INVALID; the others are
+     * created. A database error rolls back the whole request.
+     *
+     * @return one result per request, in request order
+     */
+    public List<BulkItemResult> createTasks(List<CreateTaskRequest> requests) {
+        log.info("Creating {} tasks in bulk", requests.size());
+
+        List<BulkItemResult> results = new ArrayList<>(requests.size());
+        int unflushed = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            CreateTaskRequest request = requests.get(i);
+            String error = validate(request);
+            if (error != null) {
+                results.add(BulkItemResult.invalid(i, null, error));
+                continue;
+            }
+
+            // The id is assigned here, the insert is sent on flush
+            Task saved = taskRepository.save(new Task(request.title(), request.description()));
+            results.add(BulkItemResult.created(i, saved.getId()));
+            if (++unflushed == BULK_CHUNK_SIZE) {
+                flushAndClear();
+                unflushed = 0;
+            }
+        }
+        flushAndClear();
+
+        log.info("Bulk create finished: {} of {} tasks created", succeededCount(results), requests.size());
+        return results;
+    }
+
+    /**
+     * Change the status of many tasks in one transaction. Tasks are loaded
+     * BULK_CHUNK_SIZE at a time by id; the changed rows are written as
+     * batched updates when each chunk is flushed.
+     *
+     * Invalid items are reported as INVALID and unknown ids as NOT_FOUND;
+     * the others are updated. If an id appears more than once, the last
+     * change wins.
+     *
+     * @return one result per request, in request order
+     */
+    public List<BulkItemResult> updateTaskStatuses(List<StatusChangeRequest> changes) {
+        log.info("Updating the status of {} tasks in bulk", changes.size());
+
+        List<BulkItemResult> results = new ArrayList<>(changes.size());
+        for (int from = 0; from < changes.size(); from += BULK_CHUNK_SIZE) {
+            List<StatusChangeRequest> chunk = changes.subList(from, Math.min(from + BULK_CHUNK_SIZE, changes.size()));
+
+            Set<Long> ids = chunk.stream()
+                    .filter(change -> change != null && change.id() != null)
+                    .map(StatusChangeRequest::id)
+                    .collect(Collectors.toSet());
+            Map<Long, Task> tasks = taskRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+            for (int i = 0; i < chunk.size(); i++) {
+                StatusChangeRequest change = chunk.get(i);
+                int index = from + i;
+                String error = validate(change);
+                if (error != null) {
+                    results.add(BulkItemResult.invalid(index, change == null ? null : change.id(), error));
+                    continue;
+                }
+
+                Task task = tasks.get(change.id());
+                if (task == null) {
+                    results.add(BulkItemResult.notFound(index, change.id()));
+                    continue;
+                }
+                task.setStatus(change.status());
+                results.add(BulkItemResult.updated(index, change.id()));
+            }
+
+            flushAndClear();
+        }
+
+        log.info("Bulk status update finished: {} of {} tasks updated", succeededCount(results), changes.size());
+        return results;
+    }
+
     @Transactional(readOnly = true)
-    public List<Task> getAllTasks() {
+    public List<TaskResponse> getAllTasks() {
         log.debug("Fetching all tasks");
-        List<Task> tasks = taskRepository.findAllByOrderByCreatedAtDesc();
+        List<TaskResponse> tasks = taskRepository.findAllSummaries();
         log.debug("Found {} tasks", tasks.size());
         return tasks;
     }
 
+    /**
+     * One page of tasks, newest first, starting after the cursor
+     * (from the newest task if null). No COUNT query: one extra row is
+     * read to tell whether another page follows.
+     */
+    @Transactional(readOnly = true)
+    public Slice<TaskResponse> getTasks(TaskCursor after, int limit) {
+        log.debug("Fetching {} tasks after {}", limit, after);
+        List<TaskResponse> tasks = after == null
+                ? taskRepository.findFirstPage(Limit.of(limit + 1))
+                : taskRepository.findPageAfter(after.createdAt(), after.id(), Limit.of(limit + 1));
+        return toSlice(tasks, limit);
+    }
+
+    /**
+     * Hand every task to the action, in id order, without loading them
+     * all: tasks are streamed from the database and detached once the
+     * action returns, so memory stays flat whatever the row count.
+     *
+     * @return the number of tasks exported
+     */
+    @Transactional(readOnly = true)
+    public long exportTasks(Consumer<Task> action) {
+        log.info("Exporting all tasks");
+        long count = 0;
+        try (Stream<Task> tasks = taskRepository.streamAllForExport()) {
+            for (Task task : (Iterable<Task>) tasks::iterator) {
+                action.accept(task);
+                entityManager.detach(task);
+                count++;
+            }
+        }
+        log.info("Exported {} tasks", count);
+        return count;
+    }
+
     @Transactional(readOnly = true)
     public Task getTaskById(Long id) {
         log.debug("Fetching task with id: {}", id);
@@ -100,10 +256,51 @@ public class TaskService {
     }
 
     @Transactional(readOnly = true)
-    public List<Task> getTasksByStatus(TaskStatus status) {
+    public List<TaskResponse> getTasksByStatus(TaskStatus status) {
         log.debug("Fetching tasks with status: {}", status);
-        List<Task> tasks = taskRepository.findByStatusOrderByCreatedAtDesc(status);
+        List<TaskResponse> tasks = taskRepository.findSummariesByStatus(status);
         log.debug("Found {} tasks with status {}", tasks.size(), status);
         return tasks;
     }
+
+    /**
+     * One page of tasks with the status, newest first; see getTasks.
+     */
+    @Transactional(readOnly = true)
+    public Slice<TaskResponse> getTasksByStatus(TaskStatus status, TaskCursor after, int limit) {
+        log.debug("Fetching {} tasks with status {} after {}", limit, status, after);
+        List<TaskResponse> tasks = after == null
+                ? taskRepository.findFirstPageByStatus(status, Limit.of(limit + 1))
+                : taskRepository.findPageByStatusAfter(status, after.createdAt(), after.id(), Limit.of(limit + 1));
+        return toSlice(tasks, limit);
+    }
+
+    // Send the pending inserts/updates as JDBC batches and drop the written
+    // tasks from the persistence context
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // First constraint violation of a bulk item, or null if it is valid
+    private String validate(Object item) {
+        if (item == null) {
+            return "Item is required";
+        }
+        return validator.validate(item).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static long succeededCount(List<BulkItemResult> results) {
+        return results.stream().filter(BulkItemResult::succeeded).count();
+    }
+
+    private static Slice<TaskResponse> toSlice(List<TaskResponse> tasks, int limit) {
+        boolean hasNext = tasks.size() > limit;
+        List<TaskResponse> content = hasNext ? tasks.subList(0, limit) : tasks;
+        return new SliceImpl<>(content, PageRequest.ofSize(limit), hasNext);
+    }
 }
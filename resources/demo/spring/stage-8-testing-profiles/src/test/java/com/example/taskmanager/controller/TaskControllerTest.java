@@ -1,6 +1,10 @@
 package com.example.taskmanager.controller;
 
+import com.example.taskmanager.dto.BulkItemResult;
 import com.example.taskmanager.dto.CreateTaskRequest;
+import com.example.taskmanager.dto.StatusChangeRequest;
+import com.example.taskmanager.dto.TaskCursor;
+import com.example.taskmanager.dto.TaskResponse;
 import com.example.taskmanager.exception.GlobalExceptionHandler;
 import com.example.taskmanager.exception.TaskNotFoundException;
 import com.example.taskmanager.model.Task;
@@ -12,13 +16,21 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -48,10 +60,8 @@ class TaskControllerTest {
     @DisplayName("GET /api/tasks - should return list of tasks")
     void getAllTasks_ReturnsTaskList() throws Exception {
         // Arrange
-        Task task1 = new Task("Task 1", "Desc 1");
-        task1.setId(1L);
-        Task task2 = new Task("Task 2", "Desc 2");
-        task2.setId(2L);
+        TaskResponse task1 = summary(1L, "Task 1", TaskStatus.PENDING);
+        TaskResponse task2 = summary(2L, "Task 2", TaskStatus.PENDING);
         when(taskService.getAllTasks()).thenReturn(List.of(task1, task2));
 
         // Act & Assert
@@ -60,11 +70,63 @@ class TaskControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$", hasSize(2)))
                 .andExpect(jsonPath("$[0].title", is("Task 1")))
-                .andExpect(jsonPath("$[1].title", is("Task 2")));
+                .andExpect(jsonPath("$[1].title", is("Task 2")))
+                // List views leave out the description
+                .andExpect(jsonPath("$[0].description").doesNotExist());
 
         verify(taskService).getAllTasks();
     }
 
+    @Test
+    @DisplayName("GET /api/tasks?limit= - should return a page with the next cursor")
+    void getTasks_WithLimit_ReturnsSlice() throws Exception {
+        // Arrange
+        TaskResponse task1 = summary(1L, "Task 1", TaskStatus.PENDING);
+        TaskResponse task2 = summary(2L, "Task 2", TaskStatus.PENDING);
+        when(taskService.getTasks(null, 2))
+                .thenReturn(new SliceImpl<>(List.of(task2, task1), PageRequest.ofSize(2), true));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].title", is("Task 2")))
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andExpect(jsonPath("$.nextCursor", is(TaskCursor.of(task1).encode())));
+
+        verify(taskService, never()).getAllTasks();
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks?cursor= - should continue after the cursor")
+    void getTasks_WithCursor_ReturnsLastSlice() throws Exception {
+        // Arrange
+        TaskResponse task = summary(1L, "Old Task", TaskStatus.PENDING);
+        TaskCursor cursor = new TaskCursor(task.createdAt().plusSeconds(1), 5L);
+        when(taskService.getTasks(cursor, TaskController.DEFAULT_LIMIT))
+                .thenReturn(new SliceImpl<>(List.of(task), PageRequest.ofSize(TaskController.DEFAULT_LIMIT), false));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").param("cursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext", is(false)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks?cursor= - should return 400 for a malformed cursor or limit")
+    void getTasks_InvalidCursorOrLimit_Returns400() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("limit", "10").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("BAD_REQUEST")));
+
+        mockMvc.perform(get("/api/tasks").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).getTasks(any(), anyInt());
+    }
+
     @Test
     @DisplayName("GET /api/tasks/{id} - should return task when found")
     void getTaskById_ExistingId_ReturnsTask() throws Exception {
@@ -148,9 +210,7 @@ class TaskControllerTest {
     @DisplayName("GET /api/tasks/status/{status} - should return filtered tasks")
     void getTasksByStatus_ValidStatus_ReturnsFilteredTasks() throws Exception {
         // Arrange
-        Task task = new Task("Completed Task", "Desc");
-        task.setId(1L);
-        task.setStatus(TaskStatus.COMPLETED);
+        TaskResponse task = summary(1L, "Completed Task", TaskStatus.COMPLETED);
         when(taskService.getTasksByStatus(TaskStatus.COMPLETED)).thenReturn(List.of(task));
 
         // Act & Assert
@@ -159,4 +219,143 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$", hasSize(1)))
                 .andExpect(jsonPath("$[0].status", is("COMPLETED")));
     }
+
+    @Test
+    @DisplayName("GET /api/tasks/export - should stream tasks as NDJSON")
+    void exportTasks_Default_StreamsNdjson() throws Exception {
+        // Arrange
+        Task task1 = task(1L, "Task 1", "First");
+        Task task2 = task(2L, "Task 2", null);
+        mockExport(task1, task2);
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/tasks/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(body).endsWith("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("title").asText()).isEqualTo("Task 1");
+        assertThat(objectMapper.readTree(lines[0]).get("description").asText()).isEqualTo("First");
+        assertThat(objectMapper.readTree(lines[1]).get("id").asLong()).isEqualTo(2L);
+        assertThat(objectMapper.readTree(lines[1]).has("description")).isFalse();
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/export?format=csv - should stream escaped CSV")
+    void exportTasks_Csv_StreamsEscapedCsv() throws Exception {
+        // Arrange
+        Task task = task(1L, "Say \"hi\", then leave", "line 1\nline 2");
+        mockExport(task);
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/tasks/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", containsString("tasks.csv")))
+                .andExpect(content().string("id,title,description,status,createdAt\r\n"
+                        + "1,\"Say \"\"hi\"\", then leave\",\"line 1\nline 2\",PENDING," + task.getCreatedAt() + "\r\n"));
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/export?format=xml - should return 400")
+    void exportTasks_UnknownFormat_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/tasks/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("BAD_REQUEST")));
+
+        verify(taskService, never()).exportTasks(any());
+    }
+
+    @Test
+    @DisplayName("POST /api/tasks/bulk - should report each item")
+    void createTasks_Bulk_ReturnsPerItemResults() throws Exception {
+        // Arrange
+        List<CreateTaskRequest> requests = List.of(
+                new CreateTaskRequest("Task 1", null),
+                new CreateTaskRequest("", null));
+        when(taskService.createTasks(requests)).thenReturn(List.of(
+                BulkItemResult.created(0, 1L),
+                BulkItemResult.invalid(1, null, "Title is required")));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded", is(1)))
+                .andExpect(jsonPath("$.failed", is(1)))
+                .andExpect(jsonPath("$.items[0].outcome", is("CREATED")))
+                .andExpect(jsonPath("$.items[0].id", is(1)))
+                .andExpect(jsonPath("$.items[1].outcome", is("INVALID")))
+                .andExpect(jsonPath("$.items[1].error", is("Title is required")));
+    }
+
+    @Test
+    @DisplayName("POST /api/tasks/bulk - should return 400 when too many items")
+    void createTasks_TooManyItems_ReturnsBadRequest() throws Exception {
+        List<CreateTaskRequest> requests = Collections.nCopies(
+                TaskController.MAX_BULK_ITEMS + 1, new CreateTaskRequest("Task", null));
+
+        mockMvc.perform(post("/api/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("BAD_REQUEST")));
+
+        verify(taskService, never()).createTasks(any());
+    }
+
+    @Test
+    @DisplayName("PATCH /api/tasks/bulk/status - should report each item")
+    void updateTaskStatuses_Bulk_ReturnsPerItemResults() throws Exception {
+        // Arrange
+        when(taskService.updateTaskStatuses(any())).thenReturn(List.of(
+                BulkItemResult.updated(0, 1L),
+                BulkItemResult.notFound(1, 999L)));
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/tasks/bulk/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"id\":1,\"status\":\"COMPLETED\"},{\"id\":999,\"status\":\"COMPLETED\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded", is(1)))
+                .andExpect(jsonPath("$.items[1].outcome", is("NOT_FOUND")));
+
+        verify(taskService).updateTaskStatuses(List.of(
+                new StatusChangeRequest(1L, TaskStatus.COMPLETED),
+                new StatusChangeRequest(999L, TaskStatus.COMPLETED)));
+    }
+
+    private void mockExport(Task... tasks) {
+        when(taskService.exportTasks(any())).thenAnswer(invocation -> {
+            Consumer<Task> action = invocation.getArgument(0);
+            for (Task task : tasks) {
+                action.accept(task);
+            }
+            return (long) tasks.length;
+        });
+    }
+
+    private static Task task(Long id, String title, String description) {
+        Task task = new Task(title, description);
+        task.setId(id);
+        return task;
+    }
+
+    private static TaskResponse summary(Long id, String title, TaskStatus status) {
+        return new TaskResponse(id, title, status, LocalDateTime.now());
+    }
 }
@@ -0,0 +1,94 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.dto.BulkItemResult;
+import com.example.taskmanager.dto.CreateTaskRequest;
+import com.example.taskmanager.dto.StatusChangeRequest;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bulk writes against H2, counting JDBC statements with Hibernate
+ * statistics: inserts and updates must go out in batches of
+ * hibernate.jdbc.batch_size, not one statement per task.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(TaskService.class)
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+class TaskBulkWriteTest {
+
+    private static final int TASKS = 120;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("createTasks - should insert in JDBC batches")
+    void createTasks_InsertsInBatches() {
+        // Act
+        List<BulkItemResult> results = taskService.createTasks(IntStream.range(0, TASKS)
+                .mapToObj(i -> new CreateTaskRequest("Task " + i, null))
+                .toList());
+
+        // Assert: 3 insert batches and 3 sequence calls, instead of 120 inserts
+        assertThat(results).hasSize(TASKS).allMatch(BulkItemResult::succeeded);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(TASKS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+        assertThat(taskRepository.count()).isEqualTo(TASKS);
+    }
+
+    @Test
+    @DisplayName("updateTaskStatuses - should load by chunk and update in JDBC batches")
+    void updateTaskStatuses_UpdatesInBatches() {
+        // Arrange
+        List<StatusChangeRequest> changes = taskService.createTasks(IntStream.range(0, TASKS)
+                        .mapToObj(i -> new CreateTaskRequest("Task " + i, null))
+                        .toList())
+                .stream()
+                .map(result -> new StatusChangeRequest(result.id(), TaskStatus.COMPLETED))
+                .toList();
+        statistics.clear();
+
+        // Act
+        List<BulkItemResult> results = taskService.updateTaskStatuses(changes);
+
+        // Assert: 3 selects and 3 update batches
+        assertThat(results).hasSize(TASKS).allMatch(BulkItemResult::succeeded);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(TASKS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+        assertThat(taskRepository.findByStatus(TaskStatus.COMPLETED))
+                .hasSize(TASKS)
+                .extracting(Task::getStatus)
+                .containsOnly(TaskStatus.COMPLETED);
+    }
+}
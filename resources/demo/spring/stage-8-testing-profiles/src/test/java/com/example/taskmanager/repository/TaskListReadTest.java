@@ -0,0 +1,102 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * List reads against H2, counting loaded entities with Hibernate
+ * statistics: the TaskResponse projections behind the list endpoints
+ * must not load a single Task entity (no persistence context entries,
+ * no dirty-checking snapshots), while loading entities costs one per row.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaskListReadTest {
+
+    private static final int ROWS = 50;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(new Task("Task " + i, "Description " + i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("findAll - should load one entity per row")
+    void findAll_LoadsEntities() {
+        // Act
+        List<Task> tasks = taskRepository.findAll();
+
+        // Assert
+        assertThat(tasks).hasSize(ROWS);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(ROWS);
+    }
+
+    @Test
+    @DisplayName("findAllSummaries - should load no entities")
+    void findAllSummaries_LoadsNoEntities() {
+        // Act
+        List<TaskResponse> tasks = taskRepository.findAllSummaries();
+
+        // Assert: one query, no entities, description left out
+        assertThat(tasks).hasSize(ROWS).extracting(TaskResponse::description).containsOnlyNulls();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findFirstPage / findPageAfter - should load no entities")
+    void keysetPages_LoadNoEntities() {
+        // Act
+        List<TaskResponse> first = taskRepository.findFirstPage(Limit.of(20));
+        TaskResponse last = first.get(first.size() - 1);
+        List<TaskResponse> second = taskRepository.findPageAfter(last.createdAt(), last.id(), Limit.of(20));
+
+        // Assert
+        assertThat(first).hasSize(20);
+        assertThat(second).hasSize(20).doesNotContainAnyElementsOf(first);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("findSummariesByStatus - should load no entities")
+    void findSummariesByStatus_LoadsNoEntities() {
+        // Act
+        List<TaskResponse> tasks = taskRepository.findSummariesByStatus(TaskStatus.PENDING);
+
+        // Assert
+        assertThat(tasks).hasSize(ROWS).extracting(TaskResponse::status).containsOnly(TaskStatus.PENDING);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
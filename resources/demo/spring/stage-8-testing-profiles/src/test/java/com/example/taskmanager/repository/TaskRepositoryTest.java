@@ -1,12 +1,17 @@
 package com.example.taskmanager.repository;
 
+import com.example.taskmanager.dto.TaskResponse;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -107,6 +112,69 @@ class TaskRepositoryTest {
         assertThat(tasks.get(0).getTitle()).isEqualTo("Second");
     }
 
+    @Test
+    @DisplayName("findSummariesByStatus - should select summaries without description")
+    void findSummariesByStatus_ReturnsSummaries() {
+        // Arrange
+        taskRepository.save(new Task("Pending", "Long description"));
+        Task completed = new Task("Completed", "Desc");
+        completed.setStatus(TaskStatus.COMPLETED);
+        taskRepository.save(completed);
+
+        // Act
+        List<TaskResponse> pending = taskRepository.findSummariesByStatus(TaskStatus.PENDING);
+
+        // Assert
+        assertThat(pending).hasSize(1);
+        assertThat(pending.get(0).title()).isEqualTo("Pending");
+        assertThat(pending.get(0).description()).isNull();
+    }
+
+    @Test
+    @DisplayName("findPageAfter - should walk all tasks page by page, ties broken by id")
+    void findPageAfter_SameCreatedAt_ReturnsEveryTaskOnce() {
+        // Arrange: five tasks, three sharing a createdAt
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        for (int i = 0; i < 5; i++) {
+            Task task = new Task("Task " + i, "Desc");
+            task.setCreatedAt(i < 3 ? now : now.plusMinutes(i));
+            taskRepository.save(task);
+        }
+
+        // Act
+        List<String> titles = new ArrayList<>();
+        List<TaskResponse> page = taskRepository.findFirstPage(Limit.of(2));
+        for (int pages = 0; !page.isEmpty() && pages < 5; pages++) {
+            page.forEach(task -> titles.add(task.title()));
+            TaskResponse last = page.get(page.size() - 1);
+            page = taskRepository.findPageAfter(last.createdAt(), last.id(), Limit.of(2));
+        }
+
+        // Assert: newest first, equal createdAt by id descending
+        assertThat(titles).containsExactly("Task 4", "Task 3", "Task 2", "Task 1", "Task 0");
+    }
+
+    @Test
+    @DisplayName("findPageByStatusAfter - should only return tasks with the status")
+    void findPageByStatusAfter_MixedStatuses_ReturnsMatchingTasks() {
+        // Arrange
+        Task pending1 = taskRepository.save(new Task("Pending 1", "Desc"));
+        Task completed = new Task("Completed", "Desc");
+        completed.setStatus(TaskStatus.COMPLETED);
+        taskRepository.save(completed);
+        Task pending2 = taskRepository.save(new Task("Pending 2", "Desc"));
+
+        // Act
+        List<TaskResponse> first = taskRepository.findFirstPageByStatus(TaskStatus.PENDING, Limit.of(1));
+        List<TaskResponse> second = taskRepository.findPageByStatusAfter(
+                TaskStatus.PENDING, pending2.getCreatedAt(), pending2.getId(), Limit.of(10));
+
+        // Assert
+        assertThat(first).extracting(TaskResponse::title).containsExactly("Pending 2");
+        assertThat(second).extracting(TaskResponse::title).containsExactly("Pending 1");
+        assertThat(second.get(0).id()).isEqualTo(pending1.getId());
+    }
+
     @Test
     @DisplayName("delete - should remove task")
     void delete_ExistingTask_RemovesTask() {
@@ -1,19 +1,35 @@
 package com.example.taskmanager.service;
 
+import com.example.taskmanager.dto.BulkItemResult;
+import com.example.taskmanager.dto.BulkItemResult.Outcome;
+import com.example.taskmanager.dto.CreateTaskRequest;
+import com.example.taskmanager.dto.StatusChangeRequest;
+import com.example.taskmanager.dto.TaskCursor;
+import com.example.taskmanager.dto.TaskResponse;
 import com.example.taskmanager.exception.TaskNotFoundException;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
 import com.example.taskmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Slice;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -34,6 +50,12 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private TaskService taskService;
 
@@ -94,16 +116,52 @@ class TaskServiceTest {
     @DisplayName("getAllTasks - should return list of tasks")
     void getAllTasks_ReturnsTaskList() {
         // Arrange
-        Task task2 = new Task("Task 2", "Description 2");
-        when(taskRepository.findAllByOrderByCreatedAtDesc())
-                .thenReturn(List.of(sampleTask, task2));
+        TaskResponse task1 = TaskResponse.fromEntity(sampleTask);
+        TaskResponse task2 = TaskResponse.fromEntity(new Task("Task 2", "Description 2"));
+        when(taskRepository.findAllSummaries())
+                .thenReturn(List.of(task1, task2));
 
         // Act
-        List<Task> results = taskService.getAllTasks();
+        List<TaskResponse> results = taskService.getAllTasks();
 
         // Assert
         assertThat(results).hasSize(2);
-        verify(taskRepository).findAllByOrderByCreatedAtDesc();
+        verify(taskRepository).findAllSummaries();
+    }
+
+    @Test
+    @DisplayName("getTasks - should read one extra row to detect the next page")
+    void getTasks_MoreRowsThanLimit_ReturnsSliceWithNext() {
+        // Arrange
+        TaskResponse task1 = TaskResponse.fromEntity(sampleTask);
+        TaskResponse task2 = TaskResponse.fromEntity(new Task("Task 2", "Description 2"));
+        TaskResponse task3 = TaskResponse.fromEntity(new Task("Task 3", "Description 3"));
+        when(taskRepository.findFirstPage(Limit.of(3)))
+                .thenReturn(List.of(task1, task2, task3));
+
+        // Act
+        Slice<TaskResponse> slice = taskService.getTasks(null, 2);
+
+        // Assert
+        assertThat(slice.getContent()).containsExactly(task1, task2);
+        assertThat(slice.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("getTasks - should seek past the cursor")
+    void getTasks_WithCursor_ReturnsPageAfterCursor() {
+        // Arrange
+        TaskCursor cursor = TaskCursor.of(TaskResponse.fromEntity(sampleTask));
+        TaskResponse older = TaskResponse.fromEntity(new Task("Older", "Description"));
+        when(taskRepository.findPageAfter(sampleTask.getCreatedAt(), 1L, Limit.of(3)))
+                .thenReturn(List.of(older));
+
+        // Act
+        Slice<TaskResponse> slice = taskService.getTasks(cursor, 2);
+
+        // Assert
+        assertThat(slice.getContent()).containsExactly(older);
+        assertThat(slice.hasNext()).isFalse();
     }
 
     @Test
@@ -147,4 +205,97 @@ class TaskServiceTest {
 
         verify(taskRepository, never()).delete(any());
     }
+
+    @Test
+    @DisplayName("exportTasks - should hand over and detach each task, then close the stream")
+    void exportTasks_StreamsAndDetachesTasks() {
+        // Arrange
+        Task second = new Task("Second Task", null);
+        second.setId(2L);
+        List<String> closed = new ArrayList<>();
+        when(taskRepository.streamAllForExport())
+                .thenReturn(Stream.of(sampleTask, second).onClose(() -> closed.add("stream")));
+        List<Task> exported = new ArrayList<>();
+
+        // Act
+        long count = taskService.exportTasks(exported::add);
+
+        // Assert
+        assertThat(count).isEqualTo(2);
+        assertThat(exported).containsExactly(sampleTask, second);
+        verify(entityManager).detach(sampleTask);
+        verify(entityManager).detach(second);
+        assertThat(closed).containsExactly("stream");
+    }
+
+    @Test
+    @DisplayName("createTasks - should create valid items and report invalid ones")
+    void createTasks_MixedItems_ReportsPerItem() {
+        // Arrange
+        mockSaveWithIds();
+        List<CreateTaskRequest> requests = List.of(
+                new CreateTaskRequest("Task 1", null),
+                new CreateTaskRequest("", "No title"),
+                new CreateTaskRequest("Task 3", "Description"));
+
+        // Act
+        List<BulkItemResult> results = taskService.createTasks(requests);
+
+        // Assert
+        assertThat(results).extracting(BulkItemResult::index).containsExactly(0, 1, 2);
+        assertThat(results).extracting(BulkItemResult::outcome)
+                .containsExactly(Outcome.CREATED, Outcome.INVALID, Outcome.CREATED);
+        assertThat(results.get(0).id()).isEqualTo(1L);
+        assertThat(results.get(1).error()).isEqualTo("Title is required");
+        assertThat(results.get(2).id()).isEqualTo(2L);
+        verify(taskRepository, times(2)).save(any(Task.class));
+    }
+
+    @Test
+    @DisplayName("createTasks - should flush and clear every chunk")
+    void createTasks_ManyItems_FlushesPerChunk() {
+        // Arrange
+        mockSaveWithIds();
+        List<CreateTaskRequest> requests = IntStream.range(0, 120)
+                .mapToObj(i -> new CreateTaskRequest("Task " + i, null))
+                .toList();
+
+        // Act
+        List<BulkItemResult> results = taskService.createTasks(requests);
+
+        // Assert: after 50 and 100 tasks, then the remaining 20
+        assertThat(results).hasSize(120).allMatch(BulkItemResult::succeeded);
+        verify(entityManager, times(3)).flush();
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    @DisplayName("updateTaskStatuses - should update found tasks and report the rest")
+    void updateTaskStatuses_MixedItems_ReportsPerItem() {
+        // Arrange
+        when(taskRepository.findAllById(any())).thenReturn(List.of(sampleTask));
+        List<StatusChangeRequest> changes = List.of(
+                new StatusChangeRequest(1L, TaskStatus.COMPLETED),
+                new StatusChangeRequest(999L, TaskStatus.COMPLETED),
+                new StatusChangeRequest(1L, null));
+
+        // Act
+        List<BulkItemResult> results = taskService.updateTaskStatuses(changes);
+
+        // Assert
+        assertThat(results).extracting(BulkItemResult::outcome)
+                .containsExactly(Outcome.UPDATED, Outcome.NOT_FOUND, Outcome.INVALID);
+        assertThat(results.get(2).error()).isEqualTo("Status is required");
+        assertThat(sampleTask.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        verify(entityManager).flush();
+    }
+
+    private void mockSaveWithIds() {
+        AtomicLong ids = new AtomicLong();
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            task.setId(ids.incrementAndGet());
+            return task;
+        });
+    }
 }